@@ -0,0 +1,91 @@
+package com.github.pgelinas.jackson.javax.json.benchmark;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.json.*;
+import javax.json.spi.*;
+import javax.json.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Writing trees built by another provider with this one: a tree fully built by the RI, and one where RI containers
+ * hold Jackson-backed records.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MixedTreeBenchmark {
+    @State(Scope.Benchmark)
+    public static class Trees {
+        @Param({ "small", "medium", "large" })
+        public String payload;
+
+        public JsonProvider jackson;
+        public JsonObject foreign;
+        public JsonObject mixed;
+        public int size;
+
+        @Setup
+        public void setup() {
+            jackson = ProviderState.createProvider("jackson");
+            JsonProvider glassfish = ProviderState.createProvider("glassfish");
+            ProviderState state = new ProviderState();
+            state.provider = "jackson";
+            state.payload = payload;
+            state.setup();
+
+            foreign = glassfish.createReader(new ByteArrayInputStream(state.bytes)).readObject();
+
+            JsonArray records = state.tree.getJsonArray("records");
+            JsonBuilderFactory builders = glassfish.createBuilderFactory(Collections.<String, Object> emptyMap());
+            JsonArrayBuilder wrapped = builders.createArrayBuilder();
+            for (int i = 0; i < records.size(); i++) {
+                wrapped.add(builders.createObjectBuilder().add("index", i).add("record", records.get(i)));
+            }
+            mixed = builders.createObjectBuilder().add("count", records.size()).add("records", wrapped).build();
+            size = state.bytes.length;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Output {
+        public ByteArrayOutputStream out;
+
+        @Setup(Level.Iteration)
+        public void setup(Trees trees) {
+            out = new ByteArrayOutputStream(trees.size * 2);
+        }
+    }
+
+    @Benchmark
+    public int writeForeign(Trees trees, Output output) {
+        return write(trees, trees.foreign, output);
+    }
+
+    @Benchmark
+    public int writeMixed(Trees trees, Output output) {
+        return write(trees, trees.mixed, output);
+    }
+
+    @Benchmark
+    public int generateMixed(Trees trees, Output output) {
+        output.out.reset();
+        JsonGenerator generator = trees.jackson.createGenerator(output.out);
+        generator.write(trees.mixed);
+        generator.close();
+        return output.out.size();
+    }
+
+    private static int write(Trees trees, JsonObject tree, Output output) {
+        output.out.reset();
+        JsonWriter writer = trees.jackson.createWriter(output.out);
+        writer.writeObject(tree);
+        writer.close();
+        return output.out.size();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.pgelinas.jackson.javax.json.benchmark;
+
+import java.io.*;
+import java.util.*;
+
+import javax.json.*;
+import javax.json.spi.*;
+import javax.json.stream.*;
+
+import org.glassfish.json.*;
+import org.openjdk.jmh.annotations.*;
+
+import com.github.pgelinas.jackson.javax.json.spi.*;
+
+/**
+ * Shared benchmark state: which provider to drive and which payload to feed it.
+ */
+@State(Scope.Benchmark)
+public class ProviderState {
+    @Param({ "jackson", "glassfish" })
+    public String provider;
+
+    /** small is ~1KB, medium ~90KB and large ~3.5MB of JSON. */
+    @Param({ "small", "medium", "large" })
+    public String payload;
+
+    public JsonProvider jsonProvider;
+    public JsonBuilderFactory builderFactory;
+    public int recordCount;
+    public byte[] bytes;
+    public JsonObject tree;
+
+    @Setup
+    public void setup() {
+        jsonProvider = createProvider(provider);
+        builderFactory = jsonProvider.createBuilderFactory(Collections.<String, Object> emptyMap());
+        recordCount = recordCount(payload);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = jsonProvider.createGenerator(out);
+        Records.write(generator, recordCount);
+        generator.close();
+        bytes = out.toByteArray();
+
+        JsonReader reader = jsonProvider.createReader(new ByteArrayInputStream(bytes));
+        tree = reader.readObject();
+        reader.close();
+    }
+
+    static JsonProvider createProvider(String name) {
+        if ("jackson".equals(name)) return new JacksonProvider();
+        if ("glassfish".equals(name)) return new JsonProviderImpl();
+        throw new IllegalArgumentException("Unknown provider " + name);
+    }
+
+    private static int recordCount(String payload) {
+        if ("small".equals(payload)) return 5;
+        if ("medium".equals(payload)) return 350;
+        if ("large".equals(payload)) return 14000;
+        throw new IllegalArgumentException("Unknown payload " + payload);
+    }
+}
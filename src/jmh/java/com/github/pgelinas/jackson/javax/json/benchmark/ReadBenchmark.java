@@ -0,0 +1,49 @@
+package com.github.pgelinas.jackson.javax.json.benchmark;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import javax.json.*;
+import javax.json.stream.*;
+import javax.json.stream.JsonParser.Event;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+/**
+ * Input side of the API: streaming parse of every event and full tree read.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBenchmark {
+    @Benchmark
+    public void parse(ProviderState state, Blackhole blackhole) {
+        JsonParser parser = state.jsonProvider.createParser(new ByteArrayInputStream(state.bytes));
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            switch (event) {
+                case KEY_NAME:
+                case VALUE_STRING:
+                    blackhole.consume(parser.getString());
+                    break;
+                case VALUE_NUMBER:
+                    blackhole.consume(parser.isIntegralNumber() ? parser.getLong() : parser.getBigDecimal());
+                    break;
+                default:
+                    blackhole.consume(event);
+            }
+        }
+        parser.close();
+    }
+
+    @Benchmark
+    public JsonObject read(ProviderState state) {
+        JsonReader reader = state.jsonProvider.createReader(new ByteArrayInputStream(state.bytes));
+        JsonObject object = reader.readObject();
+        reader.close();
+        return object;
+    }
+}
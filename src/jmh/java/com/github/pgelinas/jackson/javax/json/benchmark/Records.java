@@ -0,0 +1,79 @@
+package com.github.pgelinas.jackson.javax.json.benchmark;
+
+import javax.json.*;
+import javax.json.stream.*;
+
+/**
+ * Deterministic source of the records used by every benchmark, so all providers work on the exact same data.
+ */
+public final class Records {
+    private static final String[] TAGS = { "alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta" };
+
+    private Records() {}
+
+    public static void write(JsonGenerator generator, int count) {
+        generator.writeStartObject();
+        generator.write("count", count);
+        generator.writeStartArray("records");
+        for (int i = 0; i < count; i++) {
+            writeRecord(generator, i);
+        }
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+    public static JsonObject build(JsonBuilderFactory factory, int count) {
+        JsonArrayBuilder records = factory.createArrayBuilder();
+        for (int i = 0; i < count; i++) {
+            records.add(buildRecord(factory, i));
+        }
+        return factory.createObjectBuilder().add("count", count).add("records", records).build();
+    }
+
+    private static void writeRecord(JsonGenerator generator, int i) {
+        generator.writeStartObject();
+        generator.write("id", i);
+        generator.write("uuid", uuid(i));
+        generator.write("name", "Record number " + i);
+        generator.write("active", i % 3 != 0);
+        generator.write("price", i * 1.25d);
+        generator.write("timestamp", 1400000000000L + i * 1000L);
+        generator.writeNull("comment");
+        generator.writeStartArray("tags");
+        for (int t = 0; t < 3; t++) {
+            generator.write(TAGS[(i + t) % TAGS.length]);
+        }
+        generator.writeEnd();
+        generator.writeStartObject("address");
+        generator.write("street", i + " Main Street");
+        generator.write("city", "Montreal");
+        generator.write("zip", "H2X " + (i % 10) + "Y" + (i % 7));
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+    private static JsonObjectBuilder buildRecord(JsonBuilderFactory factory, int i) {
+        JsonArrayBuilder tags = factory.createArrayBuilder();
+        for (int t = 0; t < 3; t++) {
+            tags.add(TAGS[(i + t) % TAGS.length]);
+        }
+        JsonObjectBuilder address = factory.createObjectBuilder()
+                .add("street", i + " Main Street")
+                .add("city", "Montreal")
+                .add("zip", "H2X " + (i % 10) + "Y" + (i % 7));
+        return factory.createObjectBuilder()
+                .add("id", i)
+                .add("uuid", uuid(i))
+                .add("name", "Record number " + i)
+                .add("active", i % 3 != 0)
+                .add("price", i * 1.25d)
+                .add("timestamp", 1400000000000L + i * 1000L)
+                .addNull("comment")
+                .add("tags", tags)
+                .add("address", address);
+    }
+
+    private static String uuid(int i) {
+        return String.format("%08x-0000-4000-8000-%012x", i, i * 2654435761L & 0xffffffffffffL);
+    }
+}
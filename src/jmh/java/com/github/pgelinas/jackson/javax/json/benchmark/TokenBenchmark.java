@@ -0,0 +1,74 @@
+package com.github.pgelinas.jackson.javax.json.benchmark;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import javax.json.spi.*;
+import javax.json.stream.*;
+import javax.json.stream.JsonParser.Event;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+/**
+ * Per-token cost of the streaming parser, on documents made almost only of numbers or of strings so that event
+ * dispatch and value access dominate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+    private static final int TOKENS = 100000;
+
+    @State(Scope.Benchmark)
+    public static class Document {
+        @Param({ "jackson", "glassfish" })
+        public String provider;
+
+        @Param({ "numbers", "strings" })
+        public String content;
+
+        public JsonProvider jsonProvider;
+        public byte[] bytes;
+
+        @Setup
+        public void setup() {
+            jsonProvider = ProviderState.createProvider(provider);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonGenerator generator = jsonProvider.createGenerator(out);
+            generator.writeStartArray();
+            for (int i = 0; i < TOKENS; i++) {
+                if ("numbers".equals(content)) {
+                    generator.write(i * 7919L);
+                } else {
+                    generator.write("token" + i);
+                }
+            }
+            generator.writeEnd();
+            generator.close();
+            bytes = out.toByteArray();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public void tokens(Document document, Blackhole blackhole) {
+        JsonParser parser = document.jsonProvider.createParser(new ByteArrayInputStream(document.bytes));
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            switch (event) {
+                case VALUE_STRING:
+                    blackhole.consume(parser.getString());
+                    break;
+                case VALUE_NUMBER:
+                    blackhole.consume(parser.isIntegralNumber() ? parser.getLong() : parser.getBigDecimal().doubleValue());
+                    break;
+                default:
+                    blackhole.consume(event);
+            }
+        }
+        parser.close();
+    }
+}
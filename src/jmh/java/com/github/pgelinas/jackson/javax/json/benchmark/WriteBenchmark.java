@@ -0,0 +1,52 @@
+package com.github.pgelinas.jackson.javax.json.benchmark;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import javax.json.*;
+import javax.json.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Output side of the API: builder construction, streaming generation and tree writing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteBenchmark {
+    @State(Scope.Thread)
+    public static class Output {
+        public ByteArrayOutputStream out;
+
+        @Setup(Level.Iteration)
+        public void setup(ProviderState state) {
+            out = new ByteArrayOutputStream(state.bytes.length * 2);
+        }
+    }
+
+    @Benchmark
+    public JsonObject build(ProviderState state) {
+        return Records.build(state.builderFactory, state.recordCount);
+    }
+
+    @Benchmark
+    public int generate(ProviderState state, Output output) {
+        output.out.reset();
+        JsonGenerator generator = state.jsonProvider.createGenerator(output.out);
+        Records.write(generator, state.recordCount);
+        generator.close();
+        return output.out.size();
+    }
+
+    @Benchmark
+    public int write(ProviderState state, Output output) {
+        output.out.reset();
+        JsonWriter writer = state.jsonProvider.createWriter(output.out);
+        writer.writeObject(state.tree);
+        writer.close();
+        return output.out.size();
+    }
+}
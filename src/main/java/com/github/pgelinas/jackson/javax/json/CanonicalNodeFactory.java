@@ -0,0 +1,59 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import com.fasterxml.jackson.databind.node.*;
+
+/**
+ * Node factory returning the same {@link TextNode} for repeated short strings, so documents repeating a small set of
+ * values don't keep a node and a string per occurrence. The cache is direct-mapped: each string has a single slot,
+ * and a string hashing to a taken slot evicts its previous entry. Nodes are immutable, so slots are read and written
+ * without locking; a race only loses a cache entry.
+ */
+final class CanonicalNodeFactory extends JsonNodeFactory {
+    private static final long serialVersionUID = 1L;
+
+    // Longer values are rarely part of a small vocabulary and would only evict the ones that are.
+    private static final int MAX_LENGTH = 64;
+
+    private final TextNode[] _nodes;
+    private final int _mask;
+
+    /**
+     * @param capacity upper bound on the number of cached strings, rounded down to a power of two.
+     */
+    CanonicalNodeFactory(int capacity) {
+        super(false);
+        int size = Integer.highestOneBit(Math.max(capacity, 1));
+        _nodes = new TextNode[size];
+        _mask = size - 1;
+    }
+
+    int capacity() {
+        return _nodes.length;
+    }
+
+    @Override
+    public TextNode textNode(String text) {
+        TextNode node = cached(text);
+        return (node == null) ? super.textNode(text) : node;
+    }
+
+    /**
+     * Returns the cached instance of {@code text}, for trees that store strings without a node.
+     */
+    String canonical(String text) {
+        TextNode node = cached(text);
+        return (node == null) ? text : node.textValue();
+    }
+
+    private TextNode cached(String text) {
+        if (text == null || text.isEmpty() || text.length() > MAX_LENGTH) return null;
+        int hash = text.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & _mask;
+        TextNode node = _nodes[slot];
+        if (node == null || !node.textValue().equals(text)) {
+            node = new TextNode(text);
+            _nodes[slot] = node;
+        }
+        return node;
+    }
+}
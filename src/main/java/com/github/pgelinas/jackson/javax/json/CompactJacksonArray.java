@@ -0,0 +1,94 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import java.util.*;
+
+import javax.json.*;
+
+import com.fasterxml.jackson.databind.node.*;
+
+/**
+ * Read-only array stored as a flat value array, see {@link CompactTree}. Elements are wrapped on first access; the
+ * Jackson delegate is a copy built on each call to {@link #delegate()}, meant for builders that need a mutable tree.
+ */
+final class CompactJacksonArray extends JacksonArray implements CompactStructure {
+    private final Object[] _stored;
+
+    CompactJacksonArray(Object[] stored, NodeFactory nodeFactory) {
+        super(nodeFactory);
+        _stored = stored;
+    }
+
+    Object[] stored() {
+        return _stored;
+    }
+
+    @Override
+    public int size() {
+        return _stored.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return _stored.length == 0;
+    }
+
+    @Override
+    protected JsonValue value(int index) {
+        return CompactTree.value(_stored[index], nodeFactory());
+    }
+
+    @Override
+    public Iterator<?> storedValues() {
+        return Collections.unmodifiableList(Arrays.asList(_stored)).iterator();
+    }
+
+    @Override
+    public String getString(int index) {
+        return CompactTree.asText(_stored[index], nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public String getString(int index, String defaultValue) {
+        return CompactTree.asText(_stored[index], nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public int getInt(int index) {
+        return CompactTree.asInt(_stored[index], 0, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public int getInt(int index, int defaultValue) {
+        return CompactTree.asInt(_stored[index], defaultValue, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return CompactTree.asBoolean(_stored[index], false, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public boolean getBoolean(int index, boolean defaultValue) {
+        return CompactTree.asBoolean(_stored[index], defaultValue, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return _stored[index] == JsonValue.NULL;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public ArrayNode delegate() {
+        return (ArrayNode) CompactTree.copy(this, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public String toString() {
+        return CompactTree.toString(this);
+    }
+}
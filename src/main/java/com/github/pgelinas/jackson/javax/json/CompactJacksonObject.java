@@ -0,0 +1,175 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import java.util.*;
+
+import javax.json.*;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+
+/**
+ * Read-only object stored as a value array over a {@link JacksonShape} shared with objects of the same layout, see
+ * {@link CompactTree}. Values are wrapped on first access; the Jackson delegate is a copy built on each call to
+ * {@link #delegate()}, meant for builders that need a mutable tree.
+ */
+final class CompactJacksonObject extends JacksonObject implements CompactStructure {
+    private final JacksonShape _shape;
+    private final Object[] _stored;
+
+    CompactJacksonObject(JacksonShape shape, Object[] stored, NodeFactory nodeFactory) {
+        super(nodeFactory);
+        _shape = shape;
+        _stored = stored;
+    }
+
+    JacksonShape shape() {
+        return _shape;
+    }
+
+    Object[] stored() {
+        return _stored;
+    }
+
+    private Object stored(String name) {
+        int slot = _shape.slot(name);
+        return (slot < 0) ? null : _stored[slot];
+    }
+
+    @Override
+    protected JsonValue value(String name) {
+        Object value = stored(name);
+        return (value == null) ? null : CompactTree.value(value, nodeFactory());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (key instanceof String) && _shape.slot((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return _stored.length;
+    }
+
+    @Override
+    protected Iterator<Map.Entry<String, JsonValue>> entries() {
+        return new Slots<Map.Entry<String, JsonValue>>() {
+            @Override
+            Map.Entry<String, JsonValue> get(int slot) {
+                String key = _shape.key(slot);
+                return new AbstractMap.SimpleImmutableEntry<String, JsonValue>(key, CompactJacksonObject.this.get(key));
+            }
+        };
+    }
+
+    @Override
+    public Iterator<?> storedValues() {
+        return new Slots<Map.Entry<String, Object>>() {
+            @Override
+            Map.Entry<String, Object> get(int slot) {
+                return new AbstractMap.SimpleImmutableEntry<String, Object>(_shape.key(slot), _stored[slot]);
+            }
+        };
+    }
+
+    @Override
+    public String getString(String name) {
+        return CompactTree.asText(required(name), nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public String getString(String name, String defaultValue) {
+        Object value = stored(name);
+        return (value == null) ? defaultValue : CompactTree.asText(value, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public int getInt(String name) {
+        return CompactTree.asInt(required(name), 0, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public int getInt(String name, int defaultValue) {
+        Object value = stored(name);
+        return (value == null) ? defaultValue : CompactTree.asInt(value, defaultValue, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        return CompactTree.asBoolean(required(name), false, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public boolean getBoolean(String name, boolean defaultValue) {
+        Object value = stored(name);
+        return (value == null) ? defaultValue
+                : CompactTree.asBoolean(value, defaultValue, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public boolean isNull(String name) {
+        return required(name) == JsonValue.NULL;
+    }
+
+    // Missing fields fail the same way as with a Jackson delegate.
+    private Object required(String name) {
+        Object value = stored(name);
+        if (value == null) throw new NullPointerException();
+        return value;
+    }
+
+    @Override
+    public ObjectNode delegate() {
+        return (ObjectNode) CompactTree.copy(this, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    public String toString() {
+        return CompactTree.toString(this);
+    }
+
+    @Override
+    protected JsonNode node(String name) {
+        Object value = stored(name);
+        return (value == null) ? null : CompactTree.node(value, nodeFactory().jsonNodeFactory());
+    }
+
+    @Override
+    protected Iterator<Map.Entry<String, JsonNode>> fields() {
+        return new Slots<Map.Entry<String, JsonNode>>() {
+            @Override
+            Map.Entry<String, JsonNode> get(int slot) {
+                return new AbstractMap.SimpleImmutableEntry<String, JsonNode>(_shape.key(slot),
+                        CompactTree.node(_stored[slot], nodeFactory().jsonNodeFactory()));
+            }
+        };
+    }
+
+    @Override
+    protected Iterator<String> fieldNames() {
+        return _shape.keys().iterator();
+    }
+
+    // Read-only iteration over the slots, in document order.
+    private abstract class Slots<T> implements Iterator<T> {
+        private int _slot;
+
+        abstract T get(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return _slot < _stored.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return get(_slot++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
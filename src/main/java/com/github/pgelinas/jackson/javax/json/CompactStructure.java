@@ -0,0 +1,16 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import java.util.*;
+
+/**
+ * Structure that keeps its values as plain Java values rather than Jackson nodes, see
+ * {@link JacksonReaderFactory#COMPACT_TREE}. Its {@link JacksonValue#delegate()} is a copy built on each call, so
+ * writers walk the stored values instead.
+ */
+public interface CompactStructure {
+    /**
+     * Iterates over the entries of an object, or the elements of an array, as stored: nested compact structures, the
+     * {@link javax.json.JsonValue} constants, or {@link String} and {@link Number} values.
+     */
+    Iterator<?> storedValues();
+}
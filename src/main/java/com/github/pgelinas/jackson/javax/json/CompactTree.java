@@ -0,0 +1,295 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static java.lang.String.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import javax.json.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import com.github.pgelinas.jackson.javax.json.stream.*;
+
+/**
+ * Builds compact, read-only trees. Containers hold their values in a flat array; scalars are kept as plain Java values
+ * ({@link String}, {@link Integer}, {@link Long}, {@link BigInteger}, {@link Double}, {@link BigDecimal}, or the
+ * {@link JsonValue} constants) and only wrapped when asked for. Objects of a document with the same keys in the same
+ * order share one {@link JacksonShape}.
+ */
+final class CompactTree {
+    // Compact structures only hold compact structures and plain values, so printing them needs no codec.
+    private static final JsonFactory _factory = new JsonFactory();
+
+    private CompactTree() {}
+
+    /**
+     * Reads the structure starting at the current token of {@code parser}, leaving the parser on its last token.
+     * Numbers and strings are read according to {@code config}, like Jackson would build nodes for them.
+     */
+    static JsonStructure read(JsonParser parser, NodeFactory nodeFactory, JacksonShapes shapes,
+            DeserializationConfig config) throws IOException {
+        boolean bigIntegers = config.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS);
+        boolean bigDecimals = config.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        JsonNodeFactory nodes = config.getNodeFactory();
+        CanonicalNodeFactory strings = (nodes instanceof CanonicalNodeFactory) ? (CanonicalNodeFactory) nodes : null;
+        return read(parser, nodeFactory, shapes, bigIntegers, bigDecimals, strings);
+    }
+
+    private static JsonStructure read(JsonParser parser, NodeFactory nodeFactory, JacksonShapes shapes,
+            boolean bigIntegers, boolean bigDecimals, CanonicalNodeFactory strings) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            throw new JsonMappingException("Expected an object or an array", parser.getCurrentLocation());
+        }
+        // Shapes of this document, so it still shares them once the factory's table is full.
+        Map<List<String>, JacksonShape> documentShapes = new HashMap<List<String>, JacksonShape>();
+        Deque<Frame> stack = new ArrayDeque<Frame>();
+        while (true) {
+            switch (token) {
+                case START_OBJECT:
+                    stack.push(new Frame(true));
+                    break;
+                case START_ARRAY:
+                    stack.push(new Frame(false));
+                    break;
+                case FIELD_NAME:
+                    stack.peek().key(parser.getCurrentName());
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    JsonStructure structure = stack.pop().build(nodeFactory, shapes, documentShapes);
+                    if (stack.isEmpty()) return structure;
+                    stack.peek().add(structure);
+                    break;
+                default:
+                    stack.peek().add(scalar(parser, token, bigIntegers, bigDecimals, strings));
+            }
+            token = parser.nextToken();
+            if (token == null) throw new JsonParseException("Unexpected end-of-input", parser.getCurrentLocation());
+        }
+    }
+
+    /**
+     * Converts a tree built by Jackson.
+     */
+    static JsonStructure from(ContainerNode<?> node, NodeFactory nodeFactory, JacksonShapes shapes) {
+        JsonParser parser = node.traverse();
+        try {
+            parser.nextToken();
+            return read(parser, nodeFactory, shapes, false, false, null);
+        } catch (IOException e) {
+            // Walking an in-memory tree can't fail.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object scalar(JsonParser parser, JsonToken token, boolean bigIntegers, boolean bigDecimals,
+            CanonicalNodeFactory strings) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return (strings == null) ? parser.getText() : strings.canonical(parser.getText());
+            case VALUE_NUMBER_INT:
+                if (bigIntegers) return parser.getBigIntegerValue();
+                NumberType type = parser.getNumberType();
+                if (type == NumberType.INT) return Integer.valueOf(parser.getIntValue());
+                if (type == NumberType.LONG) return Long.valueOf(parser.getLongValue());
+                return parser.getBigIntegerValue();
+            case VALUE_NUMBER_FLOAT:
+                if (bigDecimals || parser.getNumberType() == NumberType.BIG_DECIMAL) return parser.getDecimalValue();
+                return Double.valueOf(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
+            default:
+                throw new UnsupportedOperationException(format("Token '%s' isn't supported by the spec.", token));
+        }
+    }
+
+    /**
+     * Returns {@code value}, as stored in a compact container, as a Jackson node.
+     */
+    static JsonNode node(Object value, JsonNodeFactory factory) {
+        if (value instanceof String) return factory.textNode((String) value);
+        if (value instanceof Integer) return factory.numberNode((Integer) value);
+        if (value instanceof Long) return factory.numberNode((Long) value);
+        if (value instanceof Double) return factory.numberNode((Double) value);
+        if (value instanceof BigInteger) return factory.numberNode((BigInteger) value);
+        if (value instanceof BigDecimal) return factory.numberNode((BigDecimal) value);
+        if (value == JsonValue.TRUE) return factory.booleanNode(true);
+        if (value == JsonValue.FALSE) return factory.booleanNode(false);
+        if (value == JsonValue.NULL) return factory.nullNode();
+        return copy((CompactStructure) value, factory);
+    }
+
+    /**
+     * Copies a compact structure into new Jackson nodes, with an explicit stack so depth is only limited by memory.
+     */
+    static ContainerNode<?> copy(CompactStructure root, JsonNodeFactory factory) {
+        Copy first = new Copy(root, factory);
+        Deque<Copy> stack = new ArrayDeque<Copy>();
+        stack.push(first);
+        while (!stack.isEmpty()) {
+            Copy copy = stack.peek();
+            if (copy._next == copy._stored.length) {
+                stack.pop();
+                continue;
+            }
+            int slot = copy._next++;
+            Object value = copy._stored[slot];
+            JsonNode node;
+            if (value instanceof CompactStructure) {
+                Copy child = new Copy((CompactStructure) value, factory);
+                stack.push(child);
+                node = child._node;
+            } else {
+                node = node(value, factory);
+            }
+            copy.add(slot, node);
+        }
+        return first._node;
+    }
+
+    private static final class Copy {
+        // Null for arrays.
+        private final JacksonShape _shape;
+        private final Object[] _stored;
+        private final ContainerNode<?> _node;
+        private int _next;
+
+        Copy(CompactStructure structure, JsonNodeFactory factory) {
+            if (structure instanceof CompactJacksonObject) {
+                _shape = ((CompactJacksonObject) structure).shape();
+                _stored = ((CompactJacksonObject) structure).stored();
+                _node = factory.objectNode();
+            } else {
+                _shape = null;
+                _stored = ((CompactJacksonArray) structure).stored();
+                _node = factory.arrayNode();
+            }
+        }
+
+        void add(int slot, JsonNode node) {
+            if (_shape != null) {
+                ((ObjectNode) _node).put(_shape.key(slot), node);
+            } else {
+                ((ArrayNode) _node).add(node);
+            }
+        }
+    }
+
+    /**
+     * Prints a compact structure straight from its stored values.
+     */
+    static String toString(CompactStructure structure) {
+        StringWriter writer = new StringWriter();
+        try {
+            JsonGenerator generator = _factory.createGenerator(writer);
+            JsonValueSerializer.serialize((JsonValue) structure, generator);
+            generator.close();
+        } catch (IOException e) {
+            // Writing to a string can't fail.
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Returns {@code value}, as stored in a compact container, as a {@link JsonValue}; containers and constants are
+     * returned as is, other values get a new wrapper.
+     */
+    static JsonValue value(Object value, NodeFactory nodeFactory) {
+        if (value instanceof JsonValue) return (JsonValue) value;
+        return nodeFactory.from(node(value, nodeFactory.jsonNodeFactory()));
+    }
+
+    /**
+     * Shortcut for {@link JsonNode#asText()} on stored values.
+     */
+    static String asText(Object value, JsonNodeFactory factory) {
+        if (value instanceof String) return (String) value;
+        return node(value, factory).asText();
+    }
+
+    /**
+     * Shortcut for {@link JsonNode#asInt(int)} on stored values.
+     */
+    static int asInt(Object value, int defaultValue, JsonNodeFactory factory) {
+        if (value instanceof Number) return ((Number) value).intValue();
+        return node(value, factory).asInt(defaultValue);
+    }
+
+    /**
+     * Shortcut for {@link JsonNode#asBoolean(boolean)} on stored values.
+     */
+    static boolean asBoolean(Object value, boolean defaultValue, JsonNodeFactory factory) {
+        if (value == JsonValue.TRUE) return true;
+        if (value == JsonValue.FALSE) return false;
+        return node(value, factory).asBoolean(defaultValue);
+    }
+
+    private static final class Frame {
+        private final List<String> _keys;
+        private final List<Object> _values = new ArrayList<Object>();
+        // Only built for large objects, to find duplicate keys without a linear scan.
+        private Map<String, Integer> _index;
+        // Slot of a duplicate key, which takes the next value in place; -1 when the next value is appended.
+        private int _replace = -1;
+
+        Frame(boolean object) {
+            _keys = object ? new ArrayList<String>() : null;
+        }
+
+        void key(String name) {
+            _replace = indexOf(name);
+            if (_replace < 0) {
+                if (_index != null) _index.put(name, _keys.size());
+                _keys.add(name);
+            }
+        }
+
+        // Duplicate keys: last one wins but keeps its first position, like ObjectNode.
+        private int indexOf(String name) {
+            if (_index != null) {
+                Integer slot = _index.get(name);
+                return (slot == null) ? -1 : slot;
+            }
+            for (int i = 0; i < _keys.size(); i++) {
+                if (_keys.get(i).equals(name)) return i;
+            }
+            if (_keys.size() == 8) {
+                _index = new HashMap<String, Integer>();
+                for (int i = 0; i < _keys.size(); i++) {
+                    _index.put(_keys.get(i), i);
+                }
+            }
+            return -1;
+        }
+
+        void add(Object value) {
+            if (_replace >= 0) {
+                _values.set(_replace, value);
+            } else {
+                _values.add(value);
+            }
+        }
+
+        JsonStructure build(NodeFactory nodeFactory, JacksonShapes shapes,
+                Map<List<String>, JacksonShape> documentShapes) {
+            Object[] values = _values.toArray();
+            if (_keys == null) return new CompactJacksonArray(values, nodeFactory);
+            JacksonShape shape = documentShapes.get(_keys);
+            if (shape == null) {
+                shape = shapes.intern(_keys);
+                documentShapes.put(shape.keys(), shape);
+            }
+            return new CompactJacksonObject(shape, values, nodeFactory);
+        }
+    }
+}
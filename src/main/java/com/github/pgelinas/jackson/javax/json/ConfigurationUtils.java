@@ -9,70 +9,166 @@ import com.fasterxml.jackson.databind.*;
 public final class ConfigurationUtils {
     private ConfigurationUtils() {}
 
-    private static JsonFactory.Feature findFactoryFeature(String name) {
-        return findEnum(name, Arrays.asList(JsonFactory.Feature.values()));
-    }
-
-    private static JsonParser.Feature findParserFeature(String name) {
-        return findEnum(name, Arrays.asList(JsonParser.Feature.values()));
-    }
-
-    private static JsonGenerator.Feature findGeneratorFeature(String name) {
-        return findEnum(name, Arrays.asList(JsonGenerator.Feature.values()));
-    }
+    /**
+     * Applies a named Jackson feature; factory features also apply to a mapper, through its factory.
+     */
+    private static abstract class FeatureBinding {
+        private final boolean _factoryFeature;
+
+        FeatureBinding(boolean factoryFeature) {
+            _factoryFeature = factoryFeature;
+        }
 
-    private static MapperFeature findMapperFeature(String name) {
-        return findEnum(name, Arrays.asList(MapperFeature.values()));
-    }
+        boolean isFactoryFeature() {
+            return _factoryFeature;
+        }
 
-    private static DeserializationFeature findDeserializationFeature(String name) {
-        return findEnum(name, Arrays.asList(DeserializationFeature.values()));
-    }
+        void configure(ObjectMapper mapper, boolean state) {
+            configure(mapper.getFactory(), state);
+        }
 
-    private static SerializationFeature findSerializationFeature(String name) {
-        return findEnum(name, Arrays.asList(SerializationFeature.values()));
+        void configure(JsonFactory factory, boolean state) {}
     }
 
-    private static <T extends Enum<T>> T findEnum(String name, List<T> values) {
-        for (T val : values) {
-            if (val.name().equals(name)) return val;
+    private static final Map<String, FeatureBinding> _bindings = new HashMap<String, FeatureBinding>();
+    private static final Map<String, Boolean> _mapperConfiguration;
+    private static final Map<String, Boolean> _factoryConfiguration;
+
+    static {
+        // Earlier bindings win; WRAP_EXCEPTIONS is both a deserialization and a serialization feature.
+        for (final MapperFeature feature : MapperFeature.values()) {
+            bind(feature.name(), new FeatureBinding(false) {
+                @Override
+                void configure(ObjectMapper mapper, boolean state) {
+                    mapper.configure(feature, state);
+                }
+            });
+        }
+        for (final DeserializationFeature feature : DeserializationFeature.values()) {
+            bind(feature.name(), new FeatureBinding(false) {
+                @Override
+                void configure(ObjectMapper mapper, boolean state) {
+                    mapper.configure(feature, state);
+                }
+            });
+        }
+        for (final SerializationFeature feature : SerializationFeature.values()) {
+            bind(feature.name(), new FeatureBinding(false) {
+                @Override
+                void configure(ObjectMapper mapper, boolean state) {
+                    mapper.configure(feature, state);
+                }
+            });
+        }
+        for (final JsonFactory.Feature feature : JsonFactory.Feature.values()) {
+            bind(feature.name(), new FeatureBinding(true) {
+                @Override
+                void configure(JsonFactory factory, boolean state) {
+                    factory.configure(feature, state);
+                }
+            });
+        }
+        for (final JsonParser.Feature feature : JsonParser.Feature.values()) {
+            bind(feature.name(), new FeatureBinding(true) {
+                @Override
+                void configure(JsonFactory factory, boolean state) {
+                    factory.configure(feature, state);
+                }
+            });
+        }
+        for (final JsonGenerator.Feature feature : JsonGenerator.Feature.values()) {
+            bind(feature.name(), new FeatureBinding(true) {
+                @Override
+                void configure(JsonFactory factory, boolean state) {
+                    factory.configure(feature, state);
+                }
+            });
         }
-        return null;
-    }
 
-    public static Map<String, Boolean> mapperConfiguration() {
         Map<String, Boolean> config = new HashMap<String, Boolean>();
-        MapperFeature[] mapperFeatures = MapperFeature.values();
-        DeserializationFeature[] deserializationFeatures = DeserializationFeature.values();
-        SerializationFeature[] serializationFeatures = SerializationFeature.values();
-        for (SerializationFeature feature : serializationFeatures) {
+        for (JsonFactory.Feature feature : JsonFactory.Feature.values()) {
             config.put(feature.name(), feature.enabledByDefault());
         }
-        for (DeserializationFeature feature : deserializationFeatures) {
+        for (JsonParser.Feature feature : JsonParser.Feature.values()) {
             config.put(feature.name(), feature.enabledByDefault());
         }
-        for (MapperFeature feature : mapperFeatures) {
+        for (JsonGenerator.Feature feature : JsonGenerator.Feature.values()) {
             config.put(feature.name(), feature.enabledByDefault());
         }
-        config.putAll(factoryConfiguration());
-        return config;
-    }
+        _factoryConfiguration = Collections.unmodifiableMap(config);
 
-    public static Map<String, Boolean> factoryConfiguration() {
-        JsonParser.Feature[] parserFeatures = JsonParser.Feature.values();
-        JsonFactory.Feature[] factoryFeatures = JsonFactory.Feature.values();
-        JsonGenerator.Feature[] generatorFeatures = JsonGenerator.Feature.values();
-        Map<String, Boolean> config = new HashMap<String, Boolean>();
-        for (JsonFactory.Feature feature : factoryFeatures) {
+        config = new HashMap<String, Boolean>();
+        for (SerializationFeature feature : SerializationFeature.values()) {
             config.put(feature.name(), feature.enabledByDefault());
         }
-        for (JsonParser.Feature feature : parserFeatures) {
+        for (DeserializationFeature feature : DeserializationFeature.values()) {
             config.put(feature.name(), feature.enabledByDefault());
         }
-        for (JsonGenerator.Feature feature : generatorFeatures) {
+        for (MapperFeature feature : MapperFeature.values()) {
             config.put(feature.name(), feature.enabledByDefault());
         }
-        return config;
+        config.putAll(_factoryConfiguration);
+        _mapperConfiguration = Collections.unmodifiableMap(config);
+    }
+
+    private static void bind(String name, FeatureBinding binding) {
+        if (!_bindings.containsKey(name)) _bindings.put(name, binding);
+    }
+
+    /**
+     * Returns the default state of every mapper and factory feature; the returned map is shared and read-only.
+     */
+    public static Map<String, Boolean> mapperConfiguration() {
+        return _mapperConfiguration;
+    }
+
+    /**
+     * Returns the default state of every factory feature; the returned map is shared and read-only.
+     */
+    public static Map<String, Boolean> factoryConfiguration() {
+        return _factoryConfiguration;
+    }
+
+    /**
+     * Returns the entries of {@code config} that {@link #configure(JsonFactory, Map)} would apply, without applying
+     * them.
+     */
+    public static Map<String, Object> factoryFeatures(Map<String, ?> config) {
+        Map<String, Object> features = new HashMap<String, Object>();
+        if (config == null) return features;
+        for (Entry<String, ?> entry : config.entrySet()) {
+            FeatureBinding binding = _bindings.get(entry.getKey());
+            if (entry.getValue() instanceof Boolean && binding != null && binding.isFactoryFeature()) {
+                features.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Returns the entries of {@code config} that {@link #configure(ObjectMapper, Map)} would apply, without applying
+     * them.
+     */
+    public static Map<String, Object> mapperFeatures(Map<String, ?> config) {
+        Map<String, Object> features = new HashMap<String, Object>();
+        if (config == null) return features;
+        for (Entry<String, ?> entry : config.entrySet()) {
+            if (entry.getValue() instanceof Boolean && _bindings.containsKey(entry.getKey())) {
+                features.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Like {@link #mapperFeatures(Map)}, plus the size of the string cache requested by
+     * {@link JacksonReaderFactory#CANONICAL_STRINGS}, if any; mappers configured with the result are meant for readers.
+     */
+    public static Map<String, Object> readerFeatures(Map<String, ?> config) {
+        Map<String, Object> features = mapperFeatures(config);
+        int capacity = JacksonReaderFactory.canonicalStrings(config);
+        if (capacity > 0) features.put(JacksonReaderFactory.CANONICAL_STRINGS, capacity);
+        return features;
     }
 
     public static Map<String, Object> configure(JsonFactory factory, Map<String, ?> config) {
@@ -82,9 +178,10 @@ public final class ConfigurationUtils {
             String featureName = entry.getKey();
             Object value = entry.getValue();
             if (!(value instanceof Boolean)) continue;
-            Boolean state = (Boolean) value;
-            if (configure(factory, featureName, state)) {
-                inUse.put(featureName, state);
+            FeatureBinding binding = _bindings.get(featureName);
+            if (binding != null && binding.isFactoryFeature()) {
+                binding.configure(factory, (Boolean) value);
+                inUse.put(featureName, value);
             }
         }
         return inUse;
@@ -97,49 +194,18 @@ public final class ConfigurationUtils {
             String featureName = entry.getKey();
             Object value = entry.getValue();
             if (!(value instanceof Boolean)) continue;
-            Boolean state = (Boolean) value;
-            if (configure(mapper, featureName, state) || configure(mapper.getFactory(), featureName, state)) {
-                inUse.put(featureName, state);
+            FeatureBinding binding = _bindings.get(featureName);
+            if (binding != null) {
+                binding.configure(mapper, (Boolean) value);
+                inUse.put(featureName, value);
             }
         }
-        return inUse;
-    }
-
-    private static boolean configure(ObjectMapper mapper, String featureName, Boolean state) {
-        MapperFeature mapperFeature = findMapperFeature(featureName);
-        if (mapperFeature != null) {
-            mapper.configure(mapperFeature, state);
-            return true;
-        }
-        DeserializationFeature deserializationFeature = findDeserializationFeature(featureName);
-        if (deserializationFeature != null) {
-            mapper.configure(deserializationFeature, state);
-            return true;
-        }
-        SerializationFeature serializationFeature = findSerializationFeature(featureName);
-        if (serializationFeature != null) {
-            mapper.configure(serializationFeature, state);
-            return true;
+        int capacity = JacksonReaderFactory.canonicalStrings(config);
+        if (capacity > 0) {
+            CanonicalNodeFactory nodeFactory = new CanonicalNodeFactory(capacity);
+            mapper.setNodeFactory(nodeFactory);
+            inUse.put(JacksonReaderFactory.CANONICAL_STRINGS, nodeFactory.capacity());
         }
-        return false;
-    }
-
-    private static boolean configure(JsonFactory factory, String featureName, boolean state) {
-        JsonFactory.Feature factoryFeature = findFactoryFeature(featureName);
-        if (factoryFeature != null) {
-            factory.configure(factoryFeature, state);
-            return true;
-        }
-        JsonParser.Feature parserFeature = findParserFeature(featureName);
-        if (parserFeature != null) {
-            factory.configure(parserFeature, state);
-            return true;
-        }
-        JsonGenerator.Feature generatorFeature = findGeneratorFeature(featureName);
-        if (generatorFeature != null) {
-            factory.configure(generatorFeature, state);
-            return true;
-        }
-        return false;
+        return inUse;
     }
 }
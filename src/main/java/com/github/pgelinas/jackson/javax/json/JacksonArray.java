@@ -11,13 +11,21 @@ import com.fasterxml.jackson.databind.node.*;
 public class JacksonArray extends AbstractList<JsonValue> implements JsonArray, JacksonValue<ArrayNode> {
     private final NodeFactory _nodeFactory;
     private final ArrayNode _delegate;
-    private List<JsonValue> _values;
+    // Wrappers are created lazily and at most once per slot, so walking the same array several times is garbage-free.
+    private volatile JsonValue[] _values;
 
     public JacksonArray(ArrayNode delegate, NodeFactory nodeFactory) {
         _delegate = delegate;
         _nodeFactory = nodeFactory;
     }
 
+    /**
+     * For subclasses that keep their elements elsewhere; they must override every element accessor.
+     */
+    protected JacksonArray(NodeFactory nodeFactory) {
+        this(null, nodeFactory);
+    }
+
     @Override
     public int size() {
         return _delegate.size();
@@ -51,14 +59,8 @@ public class JacksonArray extends AbstractList<JsonValue> implements JsonArray,
     @SuppressWarnings("unchecked")
     @Override
     public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
-        if (_values == null) {
-            _values = new ArrayList<JsonValue>();
-            for (Iterator<JsonNode> iterator = _delegate.elements(); iterator.hasNext();) {
-                _values.add(_nodeFactory.from(iterator.next()));
-            }
-            _values = Collections.unmodifiableList(_values);
-        }
-        return (List<T>) _values;
+        // This list is already read-only and backed by the wrapper cache.
+        return (List<T>) this;
     }
 
     @Override
@@ -108,6 +110,28 @@ public class JacksonArray extends AbstractList<JsonValue> implements JsonArray,
 
     @Override
     public JsonValue get(int index) {
+        JsonValue[] values = _values;
+        if (values == null) {
+            values = new JsonValue[size()];
+            _values = values;
+        }
+        if (index >= values.length) return value(index);
+        JsonValue value = values[index];
+        if (value == null) {
+            value = value(index);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    protected final NodeFactory nodeFactory() {
+        return _nodeFactory;
+    }
+
+    /**
+     * Wraps the element at {@code index}; results are cached by {@link #get(int)}.
+     */
+    protected JsonValue value(int index) {
         return _nodeFactory.from(getRaw(index));
     }
     
@@ -117,6 +141,6 @@ public class JacksonArray extends AbstractList<JsonValue> implements JsonArray,
     
     @Override
     public String toString() {
-        return _delegate.toString();
+        return delegate().toString();
     }
 }
@@ -9,7 +9,10 @@ import com.fasterxml.jackson.databind.node.*;
 public class JacksonArrayBuilder implements JsonArrayBuilder {
     private final JsonNodeFactory _jsonNodeFactory;
     private final NodeFactory _nodeFactory;
-    private final ArrayNode _delegate;
+    private ArrayNode _delegate;
+    // Set once the delegate has been handed out by build(), after which any mutation works on a copy.
+    private boolean _shared;
+    private JacksonShapes _shapes;
 
     public JacksonArrayBuilder(JsonNodeFactory jsonNodeFactory, NodeFactory nodeFactory) {
         _jsonNodeFactory = jsonNodeFactory;
@@ -25,15 +28,15 @@ public class JacksonArrayBuilder implements JsonArrayBuilder {
     public JsonArrayBuilder add(JsonValue value) {
         if (value == null) throw new NullPointerException();
         if (value == JsonValue.NULL) {
-            _delegate.addNull();
+            writableDelegate().addNull();
         } else if (value == JsonValue.FALSE) {
-            _delegate.add(false);
+            writableDelegate().add(false);
         } else if (value == JsonValue.TRUE) {
-            _delegate.add(true);
+            writableDelegate().add(true);
         } else if (value instanceof JacksonValue) {
-            _delegate.add(((JacksonValue<?>) value).delegate());
+            writableDelegate().add(((JacksonValue<?>) value).delegate());
         } else {
-            _delegate.add(_nodeFactory.from(value));
+            writableDelegate().add(_nodeFactory.from(value));
         }
 
         return this;
@@ -42,51 +45,51 @@ public class JacksonArrayBuilder implements JsonArrayBuilder {
     @Override
     public JsonArrayBuilder add(String value) {
         if (value == null) throw new NullPointerException();
-        _delegate.add(value);
+        writableDelegate().add(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(BigDecimal value) {
         if (value == null) throw new NullPointerException();
-        _delegate.add(value);
+        writableDelegate().add(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(BigInteger value) {
         if (value == null) throw new NullPointerException();
-        _delegate.add(_jsonNodeFactory.numberNode(value));
+        writableDelegate().add(_jsonNodeFactory.numberNode(value));
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(int value) {
-        _delegate.add(value);
+        writableDelegate().add(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(long value) {
-        _delegate.add(value);
+        writableDelegate().add(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(double value) {
-        _delegate.add(value);
+        writableDelegate().add(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(boolean value) {
-        _delegate.add(value);
+        writableDelegate().add(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder addNull() {
-        _delegate.addNull();
+        writableDelegate().addNull();
         return this;
     }
 
@@ -94,9 +97,9 @@ public class JacksonArrayBuilder implements JsonArrayBuilder {
     public JsonArrayBuilder add(JsonObjectBuilder builder) {
         if (builder == null) throw new NullPointerException();
         if (!(builder instanceof JacksonObjectBuilder)) {
-            _delegate.add(_nodeFactory.from(builder.build()));
+            writableDelegate().add(_nodeFactory.from(builder.build()));
         } else {
-            _delegate.add(((JacksonObjectBuilder) builder).delegate());
+            writableDelegate().add(((JacksonObjectBuilder) builder).share());
         }
         return this;
     }
@@ -105,15 +108,41 @@ public class JacksonArrayBuilder implements JsonArrayBuilder {
     public JsonArrayBuilder add(JsonArrayBuilder builder) {
         if (builder == null) throw new NullPointerException();
         if (!(builder instanceof JacksonArrayBuilder)) {
-            _delegate.add(_nodeFactory.from(builder.build()));
+            writableDelegate().add(_nodeFactory.from(builder.build()));
         } else {
-            _delegate.add(((JacksonArrayBuilder) builder).delegate());
+            writableDelegate().add(((JacksonArrayBuilder) builder).share());
         }
         return this;
     }
 
     @Override
     public JsonArray build() {
-        return new JacksonArray(_delegate.deepCopy(), _nodeFactory);
+        // A compact tree is a copy, so the delegate stays writable.
+        if (_shapes != null) return (JsonArray) CompactTree.from(_delegate, _nodeFactory, _shapes);
+        return new JacksonArray(share(), _nodeFactory);
+    }
+
+    /**
+     * When set, {@link #build()} returns a compact tree sharing the shapes of {@code shapes}, see
+     * {@link JacksonReaderFactory#COMPACT_TREE}.
+     */
+    void setCompact(JacksonShapes shapes) {
+        _shapes = shapes;
+    }
+
+    /**
+     * Hands the delegate over without copying it; this builder becomes copy-on-write.
+     */
+    ArrayNode share() {
+        _shared = true;
+        return _delegate;
+    }
+
+    private ArrayNode writableDelegate() {
+        if (_shared) {
+            _delegate = _delegate.deepCopy();
+            _shared = false;
+        }
+        return _delegate;
     }
 }
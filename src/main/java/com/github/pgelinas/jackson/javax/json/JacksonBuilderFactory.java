@@ -9,11 +9,14 @@ import com.fasterxml.jackson.databind.*;
 public class JacksonBuilderFactory implements JsonBuilderFactory {
     private final ObjectMapper _mapper;
     private final NodeFactory _nodeFactory;
+    // Only set when building compact trees.
+    private JacksonShapes _shapes;
 
     public JacksonBuilderFactory(Map<String, ?> config) {
         _mapper = new ObjectMapper();
         _nodeFactory = new NodeFactory(_mapper.getNodeFactory());
         ConfigurationUtils.configure(_mapper, config);
+        _shapes = shapes(config);
     }
 
     public JacksonBuilderFactory(ObjectMapper mapper, NodeFactory nodeFactory) {
@@ -21,18 +24,41 @@ public class JacksonBuilderFactory implements JsonBuilderFactory {
         _nodeFactory = nodeFactory;
     }
 
+    /**
+     * Builds with {@code mapper}, which must already be configured according to {@code config} and may be shared with
+     * other factories. Accepts {@link JacksonReaderFactory#COMPACT_TREE}, which makes builders return compact trees.
+     */
+    public JacksonBuilderFactory(ObjectMapper mapper, NodeFactory nodeFactory, Map<String, ?> config) {
+        this(mapper, nodeFactory);
+        _shapes = shapes(config);
+    }
+
+    private static JacksonShapes shapes(Map<String, ?> config) {
+        if (config != null && Boolean.TRUE.equals(config.get(JacksonReaderFactory.COMPACT_TREE))) {
+            return new JacksonShapes();
+        }
+        return null;
+    }
+
     @Override
     public JsonObjectBuilder createObjectBuilder() {
-        return new JacksonObjectBuilder(_mapper.getNodeFactory(), _nodeFactory);
+        JacksonObjectBuilder builder = new JacksonObjectBuilder(_mapper.getNodeFactory(), _nodeFactory);
+        builder.setCompact(_shapes);
+        return builder;
     }
 
     @Override
     public JsonArrayBuilder createArrayBuilder() {
-        return new JacksonArrayBuilder(_mapper.getNodeFactory(), _nodeFactory);
+        JacksonArrayBuilder builder = new JacksonArrayBuilder(_mapper.getNodeFactory(), _nodeFactory);
+        builder.setCompact(_shapes);
+        return builder;
     }
 
     @Override
     public Map<String, ?> getConfigInUse() {
-        return ConfigurationUtils.mapperConfiguration();
+        if (_shapes == null) return ConfigurationUtils.mapperConfiguration();
+        Map<String, Object> config = new HashMap<String, Object>(ConfigurationUtils.mapperConfiguration());
+        config.put(JacksonReaderFactory.COMPACT_TREE, true);
+        return config;
     }
 }
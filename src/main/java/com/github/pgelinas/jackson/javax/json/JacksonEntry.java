@@ -9,11 +9,11 @@ import com.fasterxml.jackson.databind.*;
 
 public final class JacksonEntry implements Entry<String, JsonValue> {
     private final Entry<String, JsonNode> _entry;
-    private final NodeFactory _nodeFactory;
+    private final JacksonObject _owner;
 
-    public JacksonEntry(Map.Entry<String, JsonNode> entry, NodeFactory nodeFactory) {
+    public JacksonEntry(Map.Entry<String, JsonNode> entry, JacksonObject owner) {
         _entry = entry;
-        _nodeFactory = nodeFactory;
+        _owner = owner;
     }
 
     @Override
@@ -23,7 +23,7 @@ public final class JacksonEntry implements Entry<String, JsonValue> {
 
     @Override
     public JsonValue getValue() {
-        return _nodeFactory.from(_entry.getValue());
+        return _owner.wrap(_entry.getKey(), _entry.getValue());
     }
 
     @Override
@@ -31,23 +31,17 @@ public final class JacksonEntry implements Entry<String, JsonValue> {
         throw new UnsupportedOperationException();
     }
 
+    // As specified by Map.Entry, so entries compare equal to those of compact objects and other implementations.
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((_entry == null) ? 0 : _entry.hashCode());
-        return result;
+        return getKey().hashCode() ^ getValue().hashCode();
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
-        if (obj == null) return false;
-        if (getClass() != obj.getClass()) return false;
-        JacksonEntry other = (JacksonEntry) obj;
-        if (_entry == null) {
-            if (other._entry != null) return false;
-        } else if (!_entry.equals(other._entry)) return false;
-        return true;
+        if (!(obj instanceof Map.Entry)) return false;
+        Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+        return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
     }
 }
@@ -15,24 +15,166 @@ public class JacksonObject extends AbstractMap<String, JsonValue> implements Jso
     private final ObjectNode _delegate;
     
     private Set<Entry<String, JsonValue>> _entries;
+    private Set<String> _keys;
+    // Wrappers are created lazily and at most once per field, so walking the same object several times is garbage-free.
+    // Open-addressing table at most half full, like JacksonArray's slots filled without locking: entries are immutable,
+    // so a race only creates a wrapper twice.
+    private volatile CachedValue[] _values;
 
     public JacksonObject(ObjectNode delegate, NodeFactory nodeFactory) {
         _delegate = delegate;
         _nodeFactory = nodeFactory;
     }
 
+    /**
+     * For subclasses that materialize their delegate on demand; they must override every field accessor.
+     */
+    protected JacksonObject(NodeFactory nodeFactory) {
+        this(null, nodeFactory);
+    }
+
+    // Live, read-only view over the delegate fields: iterates in document order and wraps values only when asked.
     @Override
     public Set<Map.Entry<String, JsonValue>> entrySet() {
         if (_entries == null) {
-            _entries = new HashSet<Map.Entry<String, JsonValue>>();
-            for (Iterator<Entry<String, JsonNode>> iterator = _delegate.fields(); iterator.hasNext();) {
-                _entries.add(new JacksonEntry(iterator.next(), _nodeFactory));
-            }
-            _entries = Collections.unmodifiableSet(_entries);
+            _entries = new AbstractSet<Map.Entry<String, JsonValue>>() {
+                @Override
+                public Iterator<Map.Entry<String, JsonValue>> iterator() {
+                    return entries();
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    if (!(o instanceof Map.Entry)) return false;
+                    Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                    JsonValue value = get(entry.getKey());
+                    return value != null && value.equals(entry.getValue());
+                }
+
+                @Override
+                public int size() {
+                    return JacksonObject.this.size();
+                }
+            };
         }
         return _entries;
     }
 
+    // Lookups go straight to the delegate instead of AbstractMap's linear scan over entrySet().
+    @Override
+    public JsonValue get(Object key) {
+        if (!(key instanceof String)) return null;
+        String name = (String) key;
+        JsonValue value = cached(name);
+        if (value == null) {
+            value = value(name);
+            if (value != null) cache(name, value);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (key instanceof String) && node((String) key) != null;
+    }
+
+    @Override
+    public int size() {
+        return _delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (_keys == null) {
+            _keys = new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    final Iterator<String> names = fieldNames();
+                    return new Iterator<String>() {
+                        @Override
+                        public boolean hasNext() {
+                            return names.hasNext();
+                        }
+
+                        @Override
+                        public String next() {
+                            return names.next();
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return containsKey(o);
+                }
+
+                @Override
+                public int size() {
+                    return JacksonObject.this.size();
+                }
+            };
+        }
+        return _keys;
+    }
+
+    JsonValue wrap(String name, JsonNode node) {
+        JsonValue value = cached(name);
+        if (value == null) {
+            value = _nodeFactory.from(node);
+            cache(name, value);
+        }
+        return value;
+    }
+
+    private JsonValue cached(String name) {
+        CachedValue[] values = _values;
+        if (values == null) return null;
+        int mask = values.length - 1;
+        for (int i = name.hashCode() & mask, probes = 0; probes < values.length; i = (i + 1) & mask, probes++) {
+            CachedValue cached = values[i];
+            if (cached == null) return null;
+            if (cached._name.equals(name)) return cached._value;
+        }
+        return null;
+    }
+
+    private void cache(String name, JsonValue value) {
+        CachedValue[] values = _values;
+        if (values == null) {
+            values = new CachedValue[Integer.highestOneBit(Math.max(size(), 1)) * 4];
+            _values = values;
+        }
+        int mask = values.length - 1;
+        for (int i = name.hashCode() & mask, probes = 0; probes < values.length; i = (i + 1) & mask, probes++) {
+            CachedValue cached = values[i];
+            if (cached == null) {
+                values[i] = new CachedValue(name, value);
+                return;
+            }
+            if (cached._name.equals(name)) return;
+        }
+    }
+
+    private static final class CachedValue {
+        private final String _name;
+        private final JsonValue _value;
+
+        CachedValue(String name, JsonValue value) {
+            _name = name;
+            _value = value;
+        }
+    }
+
     @Override
     public JsonArray getJsonArray(String name) {
         return (JsonArray) get(name);
@@ -55,45 +197,45 @@ public class JacksonObject extends AbstractMap<String, JsonValue> implements Jso
 
     @Override
     public String getString(String name) {
-        return _delegate.get(name).asText();
+        return node(name).asText();
     }
 
     @Override
     public String getString(String name, String defaultValue) {
-        JsonNode jsonNode = _delegate.get(name);
+        JsonNode jsonNode = node(name);
         return (jsonNode == null) ? defaultValue : jsonNode.asText();
     }
 
     @Override
     public int getInt(String name) {
-        return _delegate.get(name).asInt();
+        return node(name).asInt();
     }
 
     @Override
     public int getInt(String name, int defaultValue) {
-        JsonNode jsonNode = _delegate.get(name);
+        JsonNode jsonNode = node(name);
         return (jsonNode == null) ? defaultValue : jsonNode.asInt(defaultValue);
     }
 
     @Override
     public boolean getBoolean(String name) {
-        return _delegate.get(name).asBoolean();
+        return node(name).asBoolean();
     }
 
     @Override
     public boolean getBoolean(String name, boolean defaultValue) {
-        JsonNode jsonNode = _delegate.get(name);
+        JsonNode jsonNode = node(name);
         return (jsonNode == null) ? defaultValue : jsonNode.asBoolean(defaultValue);
     }
 
     @Override
     public boolean isNull(String name) {
-        return _delegate.get(name).isNull();
+        return node(name).isNull();
     }
 
     @Override
     public ValueType getValueType() {
-        return JacksonValueUtils.getValueType(this);
+        return ValueType.OBJECT;
     }
 
     @Override
@@ -103,6 +245,54 @@ public class JacksonObject extends AbstractMap<String, JsonValue> implements Jso
     
     @Override
     public String toString() {
-        return _delegate.toString();
+        return delegate().toString();
+    }
+
+    protected final NodeFactory nodeFactory() {
+        return _nodeFactory;
+    }
+
+    /**
+     * Wraps the value of the named field, or returns null if there's no such field; results are cached by
+     * {@link #get(Object)}.
+     */
+    protected JsonValue value(String name) {
+        JsonNode node = node(name);
+        return (node == null) ? null : _nodeFactory.from(node);
+    }
+
+    /**
+     * Iterates over the fields in document order, as returned by {@link #entrySet()}.
+     */
+    protected Iterator<Map.Entry<String, JsonValue>> entries() {
+        final Iterator<Entry<String, JsonNode>> fields = fields();
+        return new Iterator<Map.Entry<String, JsonValue>>() {
+            @Override
+            public boolean hasNext() {
+                return fields.hasNext();
+            }
+
+            @Override
+            public Map.Entry<String, JsonValue> next() {
+                return new JacksonEntry(fields.next(), JacksonObject.this);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    protected JsonNode node(String name) {
+        return _delegate.get(name);
+    }
+
+    protected Iterator<Entry<String, JsonNode>> fields() {
+        return _delegate.fields();
+    }
+
+    protected Iterator<String> fieldNames() {
+        return _delegate.fieldNames();
     }
 }
@@ -7,7 +7,10 @@ import javax.json.*;
 import com.fasterxml.jackson.databind.node.*;
 
 public class JacksonObjectBuilder implements JsonObjectBuilder {
-    private final ObjectNode _delegate;
+    private ObjectNode _delegate;
+    // Set once the delegate has been handed out by build(), after which any mutation works on a copy.
+    private boolean _shared;
+    private JacksonShapes _shapes;
     private final NodeFactory _nodeFactory;
     // Workaround for missing method in ContainerNode => numericNode(BigInteger)
     // Otherwise this field wouldn't be necessary.
@@ -27,15 +30,15 @@ public class JacksonObjectBuilder implements JsonObjectBuilder {
     public JsonObjectBuilder add(String name, JsonValue value) {
         if (value == null || name == null) throw new NullPointerException();
         if (value == JsonValue.NULL) {
-            _delegate.putNull(name);
+            writableDelegate().putNull(name);
         } else if (value == JsonValue.FALSE) {
-            _delegate.put(name, false);
+            writableDelegate().put(name, false);
         } else if (value == JsonValue.TRUE) {
-            _delegate.put(name, true);
+            writableDelegate().put(name, true);
         } else if (value instanceof JacksonValue) {
-            _delegate.put(name, ((JacksonValue<?>) value).delegate());
+            writableDelegate().put(name, ((JacksonValue<?>) value).delegate());
         } else {
-            _delegate.put(name, _nodeFactory.from(value));
+            writableDelegate().put(name, _nodeFactory.from(value));
         }
         return this;
     }
@@ -43,56 +46,56 @@ public class JacksonObjectBuilder implements JsonObjectBuilder {
     @Override
     public JsonObjectBuilder add(String name, String value) {
         if (value == null || name == null) throw new NullPointerException();
-        _delegate.put(name, value);
+        writableDelegate().put(name, value);
         return this;
     }
 
     @Override
     public JsonObjectBuilder add(String name, BigInteger value) {
         if (value == null || name == null) throw new NullPointerException();
-        _delegate.put(name, _jsonNodeFactory.numberNode(value));
+        writableDelegate().put(name, _jsonNodeFactory.numberNode(value));
         return this;
     }
 
     @Override
     public JsonObjectBuilder add(String name, BigDecimal value) {
         if (value == null || name == null) throw new NullPointerException();
-        _delegate.put(name, value);
+        writableDelegate().put(name, value);
         return this;
     }
 
     @Override
     public JsonObjectBuilder add(String name, int value) {
         if (name == null) throw new NullPointerException();
-        _delegate.put(name, value);
+        writableDelegate().put(name, value);
         return this;
     }
 
     @Override
     public JsonObjectBuilder add(String name, long value) {
         if (name == null) throw new NullPointerException();
-        _delegate.put(name, value);
+        writableDelegate().put(name, value);
         return this;
     }
 
     @Override
     public JsonObjectBuilder add(String name, double value) {
         if (name == null) throw new NullPointerException();
-        _delegate.put(name, value);
+        writableDelegate().put(name, value);
         return this;
     }
 
     @Override
     public JsonObjectBuilder add(String name, boolean value) {
         if (name == null) throw new NullPointerException();
-        _delegate.put(name, value);
+        writableDelegate().put(name, value);
         return this;
     }
 
     @Override
     public JsonObjectBuilder addNull(String name) {
         if (name == null) throw new NullPointerException();
-        _delegate.putNull(name);
+        writableDelegate().putNull(name);
         return this;
     }
 
@@ -100,9 +103,9 @@ public class JacksonObjectBuilder implements JsonObjectBuilder {
     public JsonObjectBuilder add(String name, JsonObjectBuilder builder) {
         if (builder == null || name == null) throw new NullPointerException();
         if (!(builder instanceof JacksonObjectBuilder)) {
-            _delegate.put(name, _nodeFactory.from(builder.build()));
+            writableDelegate().put(name, _nodeFactory.from(builder.build()));
         } else {
-            _delegate.put(name, ((JacksonObjectBuilder) builder).delegate());
+            writableDelegate().put(name, ((JacksonObjectBuilder) builder).share());
         }
         return this;
     }
@@ -111,15 +114,41 @@ public class JacksonObjectBuilder implements JsonObjectBuilder {
     public JsonObjectBuilder add(String name, JsonArrayBuilder builder) {
         if (builder == null || name == null) throw new NullPointerException();
         if (!(builder instanceof JacksonArrayBuilder)) {
-            _delegate.put(name, _nodeFactory.from(builder.build()));
+            writableDelegate().put(name, _nodeFactory.from(builder.build()));
         } else {
-            _delegate.put(name, ((JacksonArrayBuilder) builder).delegate());
+            writableDelegate().put(name, ((JacksonArrayBuilder) builder).share());
         }
         return this;
     }
 
     @Override
     public JsonObject build() {
-        return new JacksonObject(_delegate.deepCopy(), _nodeFactory);
+        // A compact tree is a copy, so the delegate stays writable.
+        if (_shapes != null) return (JsonObject) CompactTree.from(_delegate, _nodeFactory, _shapes);
+        return new JacksonObject(share(), _nodeFactory);
+    }
+
+    /**
+     * When set, {@link #build()} returns a compact tree sharing the shapes of {@code shapes}, see
+     * {@link JacksonReaderFactory#COMPACT_TREE}.
+     */
+    void setCompact(JacksonShapes shapes) {
+        _shapes = shapes;
+    }
+
+    /**
+     * Hands the delegate over without copying it; this builder becomes copy-on-write.
+     */
+    ObjectNode share() {
+        _shared = true;
+        return _delegate;
+    }
+
+    private ObjectNode writableDelegate() {
+        if (_shared) {
+            _delegate = _delegate.deepCopy();
+            _shared = false;
+        }
+        return _delegate;
     }
 }
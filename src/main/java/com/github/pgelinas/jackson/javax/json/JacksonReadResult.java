@@ -0,0 +1,36 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import javax.json.*;
+import javax.json.stream.*;
+
+/**
+ * Outcome of {@link JacksonReaderFactory#tryRead(java.io.Reader)}: either the structure read, or the error that
+ * prevented reading it.
+ */
+public final class JacksonReadResult {
+    private final JsonStructure _value;
+    private final JsonParsingException _error;
+
+    JacksonReadResult(JsonStructure value, JsonParsingException error) {
+        _value = value;
+        _error = error;
+    }
+
+    public boolean isSuccess() {
+        return _error == null;
+    }
+
+    /**
+     * @return the structure read, or {@code null} if reading failed.
+     */
+    public JsonStructure getValue() {
+        return _value;
+    }
+
+    /**
+     * @return the reason reading failed, or {@code null} if it succeeded.
+     */
+    public JsonParsingException getError() {
+        return _error;
+    }
+}
@@ -15,32 +15,72 @@ public class JacksonReader implements JsonReader {
     private final NodeFactory _nodeFactory;
     private Reader _reader;
     private InputStream _in;
+    private byte[] _bytes;
+    private int _offset;
+    private int _length;
     private boolean _closed;
+    private final boolean _lazy;
+    private boolean _lightweightFailures;
+    private JacksonShapes _shapes;
 
     public JacksonReader(ObjectMapper mapper, NodeFactory nodeFactory, Reader reader) {
+        this(mapper, nodeFactory, reader, false);
+    }
+
+    public JacksonReader(ObjectMapper mapper, NodeFactory nodeFactory, InputStream in) {
+        this(mapper, nodeFactory, in, false);
+    }
+
+    /**
+     * @param lazy if true, fields of a top-level object that are objects or arrays are only built on first access.
+     */
+    public JacksonReader(ObjectMapper mapper, NodeFactory nodeFactory, Reader reader, boolean lazy) {
         _mapper = mapper;
         _nodeFactory = nodeFactory;
         _reader = reader;
+        _lazy = lazy;
     }
 
-    public JacksonReader(ObjectMapper mapper, NodeFactory nodeFactory, InputStream in) {
+    /**
+     * @param lazy if true, fields of a top-level object that are objects or arrays are only built on first access.
+     */
+    public JacksonReader(ObjectMapper mapper, NodeFactory nodeFactory, InputStream in, boolean lazy) {
         _mapper = mapper;
         _nodeFactory = nodeFactory;
         _in = in;
+        _lazy = lazy;
+    }
+
+    /**
+     * Reads straight out of {@code bytes}, without any stream or intermediate buffer.
+     * 
+     * @param lazy if true, fields of a top-level object that are objects or arrays are only built on first access.
+     */
+    public JacksonReader(ObjectMapper mapper, NodeFactory nodeFactory, byte[] bytes, int offset, int length, boolean lazy) {
+        _mapper = mapper;
+        _nodeFactory = nodeFactory;
+        _bytes = bytes;
+        _offset = offset;
+        _length = length;
+        _lazy = lazy;
     }
 
     @Override
     public JsonStructure read() {
+        if (_shapes != null) return readCompact(JsonStructure.class);
         return (JsonStructure) read(ContainerNode.class);
     }
 
     @Override
     public JsonObject readObject() {
+        if (_shapes != null) return readCompact(JsonObject.class);
+        if (_lazy) return readLazily();
         return (JsonObject) read(ObjectNode.class);
     }
 
     @Override
     public JsonArray readArray() {
+        if (_shapes != null) return readCompact(JsonArray.class);
         return (JsonArray) read(ArrayNode.class);
     }
 
@@ -50,24 +90,116 @@ public class JacksonReader implements JsonReader {
         try {
             if (_reader != null) {
                 node = _mapper.readValue(_reader, type);
+            } else if (_bytes != null) {
+                node = _mapper.readValue(_bytes, _offset, _length, type);
             } else {
                 node = _mapper.readValue(_in, type);
             }
             _closed = true;
         } catch (JsonProcessingException exception) {
-            throw new JsonParsingException("", new JacksonLocation(exception.getLocation()));
+            throw parsingException(exception);
         } catch (IOException exception) {
             throw new JsonException("", exception);
         }
         return _nodeFactory.from(node);
     }
 
+    private JsonObject readLazily() {
+        if (_closed) throw new IllegalStateException();
+        JsonObject object;
+        try {
+            if (_reader != null) {
+                Chars buffer = new Chars();
+                char[] chunk = new char[4000];
+                for (int read; (read = _reader.read(chunk)) != -1;) {
+                    buffer.write(chunk, 0, read);
+                }
+                object = LazyJacksonObject.read(_mapper, _nodeFactory, buffer.chars(), buffer.size());
+            } else if (_bytes != null) {
+                object = LazyJacksonObject.read(_mapper, _nodeFactory, _bytes, _offset, _length);
+            } else {
+                Bytes buffer = new Bytes();
+                byte[] chunk = new byte[8000];
+                for (int read; (read = _in.read(chunk)) != -1;) {
+                    buffer.write(chunk, 0, read);
+                }
+                object = LazyJacksonObject.read(_mapper, _nodeFactory, buffer.bytes(), 0, buffer.size());
+            }
+            _closed = true;
+        } catch (JsonProcessingException exception) {
+            throw parsingException(exception);
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+        return object;
+    }
+
+    private <T extends JsonStructure> T readCompact(Class<T> type) {
+        if (_closed) throw new IllegalStateException();
+        JsonStructure structure;
+        try {
+            com.fasterxml.jackson.core.JsonParser parser;
+            if (_reader != null) {
+                parser = _mapper.getFactory().createParser(_reader);
+            } else if (_bytes != null) {
+                parser = _mapper.getFactory().createParser(_bytes, _offset, _length);
+            } else {
+                parser = _mapper.getFactory().createParser(_in);
+            }
+            try {
+                parser.nextToken();
+                structure = CompactTree.read(parser, _nodeFactory, _shapes, _mapper.getDeserializationConfig());
+                if (!type.isInstance(structure)) {
+                    throw new JsonMappingException("Expected " + type.getSimpleName(), parser.getTokenLocation());
+                }
+            } finally {
+                parser.close();
+            }
+            _closed = true;
+        } catch (JsonProcessingException exception) {
+            throw parsingException(exception);
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+        return type.cast(structure);
+    }
+
+    /**
+     * When set, structures are read as compact trees sharing the shapes of {@code shapes}, see
+     * {@link JacksonReaderFactory#COMPACT_TREE}; takes precedence over lazy reading.
+     */
+    void setCompact(JacksonShapes shapes) {
+        _shapes = shapes;
+    }
+
+    void setLightweightFailures(boolean lightweightFailures) {
+        _lightweightFailures = lightweightFailures;
+    }
+
+    private JsonParsingException parsingException(JsonProcessingException exception) {
+        if (_lightweightFailures) return new JacksonParsingException(exception);
+        return new JsonParsingException("", new JacksonLocation(exception.getLocation()));
+    }
+
+    // These expose their internal array so the document isn't copied once more after being read.
+    private static final class Bytes extends ByteArrayOutputStream {
+        byte[] bytes() {
+            return buf;
+        }
+    }
+
+    private static final class Chars extends CharArrayWriter {
+        char[] chars() {
+            return buf;
+        }
+    }
+
     @Override
     public void close() {
         try {
             if (_reader != null) {
                 _reader.close();
-            } else {
+            } else if (_in != null) {
                 _in.close();
             }
         } catch (IOException exception) {
@@ -1,22 +1,63 @@
 package com.github.pgelinas.jackson.javax.json;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.stream.*;
 
 import javax.json.*;
+import javax.json.stream.JsonParsingException;
 
 import com.fasterxml.jackson.databind.*;
+import com.github.pgelinas.jackson.javax.json.stream.*;
 
 public class JacksonReaderFactory implements JsonReaderFactory {
+    /**
+     * Configuration key; when {@code true}, {@link JsonReader#readObject()} only builds the object and array fields
+     * of the top-level object when they are first accessed. Useful when only a few fields of large documents are read.
+     */
+    public static final String LAZY_READ = "com.github.pgelinas.jackson.javax.json.lazyRead";
+
+    /**
+     * Configuration key; when {@code true}, structures are read as compact, read-only trees that keep keys and values
+     * in flat arrays, share keys between objects of the same layout, even across documents, and only wrap values when
+     * they are accessed. Meant for documents kept in memory for a long time; takes precedence over {@link #LAZY_READ}.
+     */
+    public static final String COMPACT_TREE = "com.github.pgelinas.jackson.javax.json.compactTree";
+
+    /**
+     * Configuration key; when set to a positive number, strings of up to 64 chars are canonicalized while reading, so
+     * repeated values share one node (and one {@link String} in compact trees) instead of keeping a copy for each
+     * occurrence. The number bounds how many strings are cached, new ones evicting those they collide with;
+     * {@code true} caches up to 1024 strings. Useful for documents kept in memory that repeat a small vocabulary of
+     * values. Factories created with the same configuration share the cache.
+     */
+    public static final String CANONICAL_STRINGS = "com.github.pgelinas.jackson.javax.json.canonicalStrings";
+
+    private static final int DEFAULT_CANONICAL_STRINGS = 1024;
+
+    /**
+     * Configuration key; see {@link JacksonParserFactory#LIGHTWEIGHT_FAILURES}.
+     */
+    public static final String LIGHTWEIGHT_FAILURES = JacksonParserFactory.LIGHTWEIGHT_FAILURES;
+
     private final ObjectMapper _mapper;
     private final NodeFactory _nodeFactory;
     private Map<String, Object> _configInUse;
+    private boolean _lazy;
+    private boolean _lightweightFailures;
+    // Only set when reading compact trees.
+    private JacksonShapes _shapes;
 
     public JacksonReaderFactory(Map<String, ?> config) {
-        _mapper = new ObjectMapper();
-        _nodeFactory = new NodeFactory(_mapper.getNodeFactory());
-        _configInUse = ConfigurationUtils.configure(_mapper, config);
+        this(new ObjectMapper(), config);
+        ConfigurationUtils.configure(_mapper, config);
+    }
+
+    private JacksonReaderFactory(ObjectMapper mapper, Map<String, ?> config) {
+        this(mapper, new NodeFactory(mapper.getNodeFactory()), config);
     }
 
     public JacksonReaderFactory(ObjectMapper mapper, NodeFactory nodeFactory) {
@@ -24,21 +65,189 @@ public class JacksonReaderFactory implements JsonReaderFactory {
         _nodeFactory = nodeFactory;
     }
 
+    /**
+     * Reads with {@code mapper}, which must already be configured according to {@code config} and may be shared with
+     * other factories.
+     */
+    public JacksonReaderFactory(ObjectMapper mapper, NodeFactory nodeFactory, Map<String, ?> config) {
+        this(mapper, nodeFactory);
+        _configInUse = ConfigurationUtils.mapperFeatures(config);
+        if (config != null && Boolean.TRUE.equals(config.get(LAZY_READ))) {
+            _lazy = true;
+            _configInUse.put(LAZY_READ, _lazy);
+        }
+        if (config != null && Boolean.TRUE.equals(config.get(LIGHTWEIGHT_FAILURES))) {
+            _lightweightFailures = true;
+            _configInUse.put(LIGHTWEIGHT_FAILURES, _lightweightFailures);
+        }
+        if (config != null && Boolean.TRUE.equals(config.get(COMPACT_TREE))) {
+            _shapes = new JacksonShapes();
+            _configInUse.put(COMPACT_TREE, true);
+        }
+        if (_mapper.getNodeFactory() instanceof CanonicalNodeFactory) {
+            _configInUse.put(CANONICAL_STRINGS, ((CanonicalNodeFactory) _mapper.getNodeFactory()).capacity());
+        }
+    }
+
+    /**
+     * Returns the size of the string cache requested by {@link #CANONICAL_STRINGS} in {@code config}, or 0 if none is.
+     */
+    static int canonicalStrings(Map<String, ?> config) {
+        Object value = (config == null) ? null : config.get(CANONICAL_STRINGS);
+        if (value instanceof Number) return Math.max(((Number) value).intValue(), 0);
+        return Boolean.TRUE.equals(value) ? DEFAULT_CANONICAL_STRINGS : 0;
+    }
+
     @Override
     public JsonReader createReader(Reader reader) {
-        return new JacksonReader(_mapper, _nodeFactory, reader);
+        return reader(new JacksonReader(_mapper, _nodeFactory, reader, _lazy), _lightweightFailures);
     }
 
     @Override
     public JsonReader createReader(InputStream in) {
-        return new JacksonReader(_mapper, _nodeFactory, in);
+        return reader(new JacksonReader(_mapper, _nodeFactory, in, _lazy), _lightweightFailures);
     }
 
     @Override
     public JsonReader createReader(InputStream in, Charset charset) {
+        if (JacksonValueUtils.isDetectable(charset)) return createReader(in);
         return createReader(new InputStreamReader(in, charset));
     }
 
+    /**
+     * Reads straight out of {@code length} bytes of {@code bytes} starting at {@code offset}, without wrapping them in
+     * a stream.
+     */
+    public JsonReader createReader(byte[] bytes, int offset, int length) {
+        return reader(new JacksonReader(_mapper, _nodeFactory, bytes, offset, length, _lazy), _lightweightFailures);
+    }
+
+    /**
+     * Reads the remaining bytes of {@code buffer}; heap buffers are read in place, others through a stream over them.
+     */
+    public JsonReader createReader(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return createReader(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return createReader(new ByteBufferInputStream(buffer));
+    }
+
+    /**
+     * Reads a file by memory-mapping it instead of reading it through a stream.
+     */
+    public JsonReader createReader(Path path) {
+        try {
+            return createReader(MappedFileInput.open(path));
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+    }
+
+    /**
+     * Lazily reads the elements of the top-level array from {@code reader}, one element at a time. Close the stream to
+     * release the reader.
+     */
+    public Stream<JsonValue> readElements(Reader reader) {
+        try {
+            return new JacksonValueIterator(_mapper.getFactory().createParser(reader), _nodeFactory, true).stream();
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+    }
+
+    /**
+     * Lazily reads the elements of the top-level array from {@code in}, one element at a time. Close the stream to
+     * release the input stream.
+     */
+    public Stream<JsonValue> readElements(InputStream in) {
+        try {
+            return new JacksonValueIterator(_mapper.getFactory().createParser(in), _nodeFactory, true).stream();
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+    }
+
+    /**
+     * Lazily reads the whitespace-separated root values (e.g. newline-delimited JSON) from {@code reader}. Close the
+     * stream to release the reader.
+     */
+    public Stream<JsonValue> readValues(Reader reader) {
+        try {
+            return new JacksonValueIterator(_mapper.getFactory().createParser(reader), _nodeFactory, false).stream();
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+    }
+
+    /**
+     * Lazily reads the whitespace-separated root values (e.g. newline-delimited JSON) from {@code in}. Close the stream
+     * to release the input stream.
+     */
+    public Stream<JsonValue> readValues(InputStream in) {
+        try {
+            return new JacksonValueIterator(_mapper.getFactory().createParser(in), _nodeFactory, false).stream();
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+    }
+
+    /**
+     * Splits newline-delimited JSON at record boundaries so chunks can be parsed in parallel, each with its own parser.
+     */
+    public Spliterator<JsonValue> createRecordSpliterator(ByteBuffer records) {
+        return new JacksonRecordSpliterator(_mapper.getFactory(), _nodeFactory, records);
+    }
+
+    /**
+     * Reads newline-delimited JSON as a parallel stream, parsed chunk by chunk on the fork-join common pool.
+     */
+    public Stream<JsonValue> readRecords(ByteBuffer records) {
+        return StreamSupport.stream(createRecordSpliterator(records), true);
+    }
+
+    /**
+     * @see #readRecords(ByteBuffer)
+     */
+    public Stream<JsonValue> readRecords(byte[] records, int offset, int length) {
+        return readRecords(ByteBuffer.wrap(records, offset, length));
+    }
+
+    /**
+     * Reads a structure out of {@code reader}, returning parse errors instead of throwing them. Errors are always
+     * reported as {@link JacksonParsingException}; other failures, such as I/O errors, are still thrown.
+     */
+    public JacksonReadResult tryRead(Reader reader) {
+        return tryRead(reader(new JacksonReader(_mapper, _nodeFactory, reader), true));
+    }
+
+    /**
+     * @see #tryRead(Reader)
+     */
+    public JacksonReadResult tryRead(InputStream in) {
+        return tryRead(reader(new JacksonReader(_mapper, _nodeFactory, in), true));
+    }
+
+    /**
+     * @see #tryRead(Reader)
+     */
+    public JacksonReadResult tryRead(byte[] bytes, int offset, int length) {
+        return tryRead(reader(new JacksonReader(_mapper, _nodeFactory, bytes, offset, length, false), true));
+    }
+
+    private JacksonReadResult tryRead(JacksonReader reader) {
+        try {
+            return new JacksonReadResult(reader.read(), null);
+        } catch (JsonParsingException exception) {
+            return new JacksonReadResult(null, exception);
+        }
+    }
+
+    private JacksonReader reader(JacksonReader reader, boolean lightweightFailures) {
+        reader.setLightweightFailures(lightweightFailures);
+        reader.setCompact(_shapes);
+        return reader;
+    }
+
     @Override
     public Map<String, ?> getConfigInUse() {
         return _configInUse;
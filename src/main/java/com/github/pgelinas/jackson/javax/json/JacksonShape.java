@@ -0,0 +1,55 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import java.util.*;
+
+/**
+ * Ordered set of keys shared by every compact object with the same keys in the same order, see {@link CompactTree}.
+ * Objects only keep their values; a key is resolved to its slot through an open-addressing table at most half full.
+ */
+final class JacksonShape {
+    private final String[] _keys;
+    // Slot + 1 of the key hashed to each position, 0 when empty.
+    private final int[] _table;
+    private final int _mask;
+
+    JacksonShape(String[] keys) {
+        _keys = keys;
+        int capacity = Integer.highestOneBit(Math.max(keys.length, 1)) * 4;
+        _table = new int[capacity];
+        _mask = capacity - 1;
+        for (int slot = 0; slot < keys.length; slot++) {
+            int i = keys[slot].hashCode() & _mask;
+            while (_table[i] != 0) {
+                i = (i + 1) & _mask;
+            }
+            _table[i] = slot + 1;
+        }
+    }
+
+    int size() {
+        return _keys.length;
+    }
+
+    String key(int slot) {
+        return _keys[slot];
+    }
+
+    /**
+     * Returns the slot of {@code name}, or -1 if it isn't part of this shape.
+     */
+    int slot(String name) {
+        for (int i = name.hashCode() & _mask;; i = (i + 1) & _mask) {
+            int slot = _table[i] - 1;
+            if (slot < 0) return -1;
+            String key = _keys[slot];
+            if (key == name || key.equals(name)) return slot;
+        }
+    }
+
+    /**
+     * Read-only view of the keys, in order.
+     */
+    List<String> keys() {
+        return Collections.unmodifiableList(Arrays.asList(_keys));
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Interns {@link JacksonShape shapes} across the documents read or built by one factory, so objects with the same
+ * layout share their keys even when they come from different documents. Bounded, so documents with unusual keys
+ * can't grow it forever; once full, shapes are only shared within a document.
+ */
+final class JacksonShapes {
+    private static final int CAPACITY = 4096;
+
+    private final ConcurrentMap<List<String>, JacksonShape> _shapes =
+            new ConcurrentHashMap<List<String>, JacksonShape>();
+
+    /**
+     * Returns the shape for {@code keys}; the list isn't retained.
+     */
+    JacksonShape intern(List<String> keys) {
+        JacksonShape shape = _shapes.get(keys);
+        if (shape != null) return shape;
+        shape = new JacksonShape(keys.toArray(new String[keys.size()]));
+        if (_shapes.size() < CAPACITY) {
+            JacksonShape existing = _shapes.putIfAbsent(shape.keys(), shape);
+            if (existing != null) return existing;
+        }
+        return shape;
+    }
+}
@@ -3,7 +3,7 @@ package com.github.pgelinas.jackson.javax.json;
 import com.fasterxml.jackson.databind.node.*;
 
 public class JacksonValueNode<T extends ValueNode> implements JacksonValue<T> {
-    protected T _delegate;
+    protected final T _delegate;
 
     public JacksonValueNode(T delegate) {
         _delegate = delegate;
@@ -1,6 +1,6 @@
 package com.github.pgelinas.jackson.javax.json;
 
-import java.util.*;
+import java.nio.charset.*;
 
 import javax.json.JsonValue.ValueType;
 
@@ -9,22 +9,43 @@ import com.fasterxml.jackson.core.*;
 public final class JacksonValueUtils {
     private JacksonValueUtils() {}
     
-    private static EnumMap<JsonToken, ValueType> _tokenToValueType;
+    // Indexed by token ordinal.
+    private static final ValueType[] _tokenToValueType = new ValueType[JsonToken.values().length];
 
     static {
-        _tokenToValueType = new EnumMap<JsonToken, ValueType>(JsonToken.class);
-        _tokenToValueType.put(JsonToken.START_ARRAY, ValueType.ARRAY);
-        _tokenToValueType.put(JsonToken.START_OBJECT, ValueType.OBJECT);
-        _tokenToValueType.put(JsonToken.VALUE_FALSE, ValueType.FALSE);
-        _tokenToValueType.put(JsonToken.VALUE_TRUE, ValueType.TRUE);
-        _tokenToValueType.put(JsonToken.VALUE_NULL, ValueType.NULL);
-        _tokenToValueType.put(JsonToken.VALUE_NUMBER_FLOAT, ValueType.NUMBER);
-        _tokenToValueType.put(JsonToken.VALUE_NUMBER_INT, ValueType.NUMBER);
-        _tokenToValueType.put(JsonToken.VALUE_STRING, ValueType.STRING);
+        _tokenToValueType[JsonToken.START_ARRAY.ordinal()] = ValueType.ARRAY;
+        _tokenToValueType[JsonToken.START_OBJECT.ordinal()] = ValueType.OBJECT;
+        _tokenToValueType[JsonToken.VALUE_FALSE.ordinal()] = ValueType.FALSE;
+        _tokenToValueType[JsonToken.VALUE_TRUE.ordinal()] = ValueType.TRUE;
+        _tokenToValueType[JsonToken.VALUE_NULL.ordinal()] = ValueType.NULL;
+        _tokenToValueType[JsonToken.VALUE_NUMBER_FLOAT.ordinal()] = ValueType.NUMBER;
+        _tokenToValueType[JsonToken.VALUE_NUMBER_INT.ordinal()] = ValueType.NUMBER;
+        _tokenToValueType[JsonToken.VALUE_STRING.ordinal()] = ValueType.STRING;
     }
     
     public static ValueType getValueType(JacksonValue<?> value) {
-        return _tokenToValueType.get(value.delegate().asToken());
+        return _tokenToValueType[value.delegate().asToken().ordinal()];
+    }
+
+    /**
+     * Returns the {@link JsonEncoding} producing exactly the same bytes as {@code charset}, or {@code null} if Jackson
+     * has no byte-level support for it.
+     */
+    public static JsonEncoding encodingOf(Charset charset) {
+        for (JsonEncoding encoding : JsonEncoding.values()) {
+            if (encoding.getJavaName().equals(charset.name())) return encoding;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether Jackson's byte parser auto-detects {@code charset}, in which case input doesn't need to be
+     * decoded through a {@link java.io.Reader}. This holds for all UTF-8, UTF-16 and UTF-32 variants since a JSON
+     * text always starts with an ASCII character.
+     */
+    public static boolean isDetectable(Charset charset) {
+        String name = charset.name();
+        return encodingOf(charset) != null || name.equals("UTF-16") || name.equals("UTF-32");
     }
 
     protected static boolean isEquals(JacksonValue<?> thisValue, Object obj) {
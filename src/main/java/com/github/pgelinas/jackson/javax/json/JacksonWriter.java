@@ -9,22 +9,30 @@ import javax.json.JsonException;
 import javax.json.JsonObject;
 import javax.json.JsonStructure;
 import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerationException;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.pgelinas.jackson.javax.json.stream.JacksonGenerator;
+import com.github.pgelinas.jackson.javax.json.stream.JsonValueSerializer;
 
 public class JacksonWriter implements JsonWriter {
     private final ObjectMapper _mapper;
-    private final JacksonGenerator _generator;
+    private final JsonGenerator _delegate;
 
     public JacksonWriter(ObjectMapper mapper, Writer writer) throws IOException {
         _mapper = mapper;
-        _generator = new JacksonGenerator(mapper.getFactory().createGenerator(writer));
+        _delegate = mapper.getFactory().createGenerator(writer);
     }
 
     public JacksonWriter(ObjectMapper mapper, OutputStream out) throws IOException {
         _mapper = mapper;
-        _generator = new JacksonGenerator(mapper.getFactory().createGenerator(out));
+        _delegate = mapper.getFactory().createGenerator(out);
+    }
+
+    public JacksonWriter(ObjectMapper mapper, OutputStream out, JsonEncoding encoding) throws IOException {
+        _mapper = mapper;
+        _delegate = mapper.getFactory().createGenerator(out, encoding);
     }
 
     @Override
@@ -43,19 +51,34 @@ public class JacksonWriter implements JsonWriter {
     }
 
     private void writeValue(JsonStructure structure) {
-        if (structure instanceof JacksonValue) {
+        // Compact structures would build a copy of their tree as delegate, so they are walked instead.
+        if (structure instanceof JacksonValue && !(structure instanceof CompactStructure)) {
             try {
-                _mapper.writeTree(_generator.delegate(), ((JacksonValue<?>) structure).delegate());
+                _mapper.writeTree(_delegate, ((JacksonValue<?>) structure).delegate());
             } catch (IOException exception) {
                 throw new JsonException("", exception);
             }
         } else {
-            _generator.write(structure);
+            try {
+                JsonValueSerializer.serialize(structure, _delegate);
+                // Like ObjectMapper.writeTree, so output doesn't depend on the kind of structure.
+                _delegate.flush();
+            } catch (com.fasterxml.jackson.core.JsonGenerationException exception) {
+                throw new JsonGenerationException("", exception);
+            } catch (IOException exception) {
+                throw new JsonException("", exception);
+            }
         }
     }
 
     @Override
     public void close() {
-        _generator.close();
+        try {
+            _delegate.close();
+        } catch (com.fasterxml.jackson.core.JsonGenerationException exception) {
+            throw new JsonGenerationException("", exception);
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
     }
 }
@@ -1,12 +1,16 @@
 package com.github.pgelinas.jackson.javax.json;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
 import java.util.*;
 
 import javax.json.*;
 
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.util.*;
 import com.fasterxml.jackson.databind.*;
+import com.github.pgelinas.jackson.javax.json.stream.*;
 
 public class JacksonWriterFactory implements JsonWriterFactory {
     private final ObjectMapper _mapper;
@@ -21,6 +25,15 @@ public class JacksonWriterFactory implements JsonWriterFactory {
         _mapper = mapper;
     }
 
+    /**
+     * Writes with {@code mapper}, which must already be configured according to {@code config} and may be shared with
+     * other factories.
+     */
+    public JacksonWriterFactory(ObjectMapper mapper, Map<String, ?> config) {
+        this(mapper);
+        _configInUse = ConfigurationUtils.mapperFeatures(config);
+    }
+
     @Override
     public JsonWriter createWriter(Writer writer) {
         try {
@@ -41,7 +54,43 @@ public class JacksonWriterFactory implements JsonWriterFactory {
 
     @Override
     public JsonWriter createWriter(OutputStream out, Charset charset) {
-        return createWriter(new OutputStreamWriter(out, charset));
+        JsonEncoding encoding = JacksonValueUtils.encodingOf(charset);
+        if (encoding == null) return createWriter(new OutputStreamWriter(out, charset));
+        try {
+            return new JacksonWriter(_mapper, out, encoding);
+        } catch (IOException exception) {
+            throw new JsonException("", exception);
+        }
+    }
+
+    /**
+     * Writes into {@code buffer}, starting at its position which is advanced as content is flushed; throws
+     * {@link BufferOverflowException} if the buffer is too small. A heap or direct buffer can be reused across calls.
+     */
+    public JsonWriter createWriter(ByteBuffer buffer) {
+        return createWriter(new ByteBufferOutputStream(buffer));
+    }
+
+    /**
+     * Writes into {@code length} bytes of {@code bytes} starting at {@code offset}.
+     * 
+     * @see #createWriter(ByteBuffer)
+     */
+    public JsonWriter createWriter(byte[] bytes, int offset, int length) {
+        return createWriter(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * Writes {@code value} as UTF-8 and returns the resulting bytes.
+     */
+    public byte[] writeBytes(JsonStructure value) {
+        ByteArrayBuilder out = new ByteArrayBuilder();
+        JsonWriter writer = createWriter(out);
+        writer.write(value);
+        writer.close();
+        byte[] bytes = out.toByteArray();
+        out.release();
+        return bytes;
     }
 
     @Override
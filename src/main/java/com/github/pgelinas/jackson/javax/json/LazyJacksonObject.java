@@ -0,0 +1,261 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import java.io.*;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.json.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+
+/**
+ * Top-level object whose container fields are only located during the initial scan and built on first access. The
+ * scan still tokenizes the whole document, so syntax errors are reported up front; what is saved is building (and
+ * keeping) the subtrees nobody looks at.
+ */
+final class LazyJacksonObject extends JacksonObject {
+    private final ObjectMapper _mapper;
+    private final String[] _names;
+    private final Map<String, Integer> _index;
+    // Scalars are resolved during the scan, containers are null until their [start, end) slice is parsed.
+    private final JsonNode[] _nodes;
+    private final int[] _starts;
+    private final int[] _ends;
+    // Exactly one of these holds the document; released once every field has been materialized.
+    private byte[] _bytes;
+    private char[] _chars;
+    private ObjectNode _delegate;
+
+    private LazyJacksonObject(ObjectMapper mapper, NodeFactory nodeFactory, Map<String, Integer> index,
+            List<String> names, List<JsonNode> nodes, int[] starts, int[] ends, byte[] bytes, char[] chars) {
+        super(nodeFactory);
+        _mapper = mapper;
+        _index = index;
+        _names = names.toArray(new String[names.size()]);
+        _nodes = nodes.toArray(new JsonNode[nodes.size()]);
+        _starts = starts;
+        _ends = ends;
+        _bytes = bytes;
+        _chars = chars;
+    }
+
+    /**
+     * Reads an object out of {@code length} bytes of {@code bytes} starting at {@code offset}, deferring its container
+     * fields.
+     */
+    static JacksonObject read(ObjectMapper mapper, NodeFactory nodeFactory, byte[] bytes, int offset, int length)
+            throws IOException {
+        JsonParser parser = mapper.getFactory().createParser(bytes, offset, length);
+        // Other encodings are decoded through a Reader by Jackson, so offsets wouldn't be byte offsets.
+        if (!isScannable(mapper.getFactory()) || !(parser instanceof UTF8StreamJsonParser)) {
+            return eager(mapper, nodeFactory, parser);
+        }
+        JacksonObject object = read(mapper, nodeFactory, parser, bytes, null, offset, offset + length);
+        if (object != null) return object;
+        return eager(mapper, nodeFactory, mapper.getFactory().createParser(bytes, offset, length));
+    }
+
+    /**
+     * Reads an object out of the first {@code length} chars of {@code chars}, deferring its container fields.
+     */
+    static JacksonObject read(ObjectMapper mapper, NodeFactory nodeFactory, char[] chars, int length) throws IOException {
+        JsonParser parser = mapper.getFactory().createParser(new CharArrayReader(chars, 0, length));
+        if (!isScannable(mapper.getFactory())) {
+            return eager(mapper, nodeFactory, parser);
+        }
+        JacksonObject object = read(mapper, nodeFactory, parser, null, chars, 0, length);
+        if (object != null) return object;
+        return eager(mapper, nodeFactory, mapper.getFactory().createParser(new CharArrayReader(chars, 0, length)));
+    }
+
+    private static JacksonObject eager(ObjectMapper mapper, NodeFactory nodeFactory, JsonParser parser)
+            throws IOException {
+        try {
+            return new JacksonObject(mapper.readValue(parser, ObjectNode.class), nodeFactory);
+        } finally {
+            parser.close();
+        }
+    }
+
+    // Locating a value from a field name assumes strict syntax between the two.
+    private static boolean isScannable(JsonFactory factory) {
+        return !factory.isEnabled(JsonParser.Feature.ALLOW_COMMENTS)
+               && !factory.isEnabled(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES)
+               && !factory.isEnabled(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
+    }
+
+    /**
+     * Scans the object in {@code [from, limit)} of the input, or returns {@code null} if the parser's token offsets
+     * can't be mapped onto the input, in which case the caller reads it eagerly.
+     */
+    private static JacksonObject read(ObjectMapper mapper, NodeFactory nodeFactory, JsonParser parser, byte[] bytes,
+            char[] chars, int from, int limit) throws IOException {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                // Let the mapper report the mismatch the same way an eager read would.
+                return new JacksonObject(mapper.readValue(parser, ObjectNode.class), nodeFactory);
+            }
+            // Offsets may be counted from the start of the array or from the start of the input depending on the
+            // Jackson version, so they are anchored on the opening brace, the first '{' of the input.
+            long root = tokenOffset(parser);
+            if (root < 0) return null;
+            int first = from;
+            while (first < limit && charAt(bytes, chars, first) != '{') first++;
+            long base = first - root;
+            Map<String, Integer> index = new HashMap<String, Integer>();
+            List<String> names = new ArrayList<String>();
+            List<JsonNode> nodes = new ArrayList<JsonNode>();
+            int[] starts = new int[8];
+            int[] ends = new int[8];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                long nameOffset = base + tokenOffset(parser);
+                token = parser.nextToken();
+                JsonNode node = null;
+                int start = -1, end = -1;
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    if (nameOffset < from || nameOffset >= limit) return null;
+                    start = valueStart(bytes, chars, (int) nameOffset, limit);
+                    parser.skipChildren();
+                    long last = base + tokenOffset(parser);
+                    if (start < 0 || last <= start || last >= limit) return null;
+                    end = (int) last + 1;
+                    // Both ends of the slice must be the brackets Jackson just matched.
+                    boolean object = token == JsonToken.START_OBJECT;
+                    if (charAt(bytes, chars, start) != (object ? '{' : '[')
+                        || charAt(bytes, chars, (int) last) != (object ? '}' : ']')) return null;
+                } else {
+                    node = mapper.readTree(parser);
+                }
+                Integer existing = index.get(name);
+                int slot;
+                if (existing == null) {
+                    slot = names.size();
+                    index.put(name, slot);
+                    names.add(name);
+                    nodes.add(node);
+                    if (slot == starts.length) {
+                        starts = Arrays.copyOf(starts, slot * 2);
+                        ends = Arrays.copyOf(ends, slot * 2);
+                    }
+                } else {
+                    // Duplicate keys: last one wins but keeps its first position, like ObjectNode.
+                    slot = existing;
+                    nodes.set(slot, node);
+                }
+                starts[slot] = start;
+                ends[slot] = end;
+            }
+            return new LazyJacksonObject(mapper, nodeFactory, index, names, nodes, starts, ends, bytes, chars);
+        } finally {
+            parser.close();
+        }
+    }
+
+    /**
+     * Returns the offset of the current token, or -1 if the parser doesn't track it. Jackson 2.2's UTF8StreamJsonParser
+     * reports its byte offset through {@link JsonLocation#getCharOffset()} and leaves the byte offset at -1; later
+     * versions report it as a byte offset. The result is checked against the input by the caller either way.
+     */
+    private static long tokenOffset(JsonParser parser) {
+        JsonLocation location = parser.getTokenLocation();
+        long offset = location.getByteOffset();
+        return (offset >= 0) ? offset : location.getCharOffset();
+    }
+
+    /**
+     * Skips the quoted field name starting at or after {@code offset}, then returns the offset of the value's '{' or
+     * '[', or -1 if {@code limit} is reached first.
+     */
+    private static int valueStart(byte[] bytes, char[] chars, int offset, int limit) {
+        int i = offset;
+        while (i < limit && charAt(bytes, chars, i) != '"') i++;
+        for (i++; i < limit && charAt(bytes, chars, i) != '"'; i++) {
+            if (charAt(bytes, chars, i) == '\\') i++;
+        }
+        for (i++; i < limit; i++) {
+            int c = charAt(bytes, chars, i);
+            if (c == '{' || c == '[') return i;
+        }
+        return -1;
+    }
+
+    // Structural characters are ASCII, so comparing raw UTF-8 bytes is safe.
+    private static int charAt(byte[] bytes, char[] chars, int i) {
+        return (bytes != null) ? bytes[i] : chars[i];
+    }
+
+    private synchronized JsonNode node(int slot) {
+        JsonNode node = _nodes[slot];
+        if (node == null) {
+            try {
+                int length = _ends[slot] - _starts[slot];
+                if (_bytes != null) {
+                    node = _mapper.readValue(_bytes, _starts[slot], length, JsonNode.class);
+                } else {
+                    node = _mapper.readValue(new CharArrayReader(_chars, _starts[slot], length), JsonNode.class);
+                }
+            } catch (IOException e) {
+                // The slice has already been validated by the initial scan.
+                throw new IllegalStateException(e);
+            }
+            _nodes[slot] = node;
+        }
+        return node;
+    }
+
+    @Override
+    public synchronized ObjectNode delegate() {
+        if (_delegate == null) {
+            ObjectNode delegate = _mapper.getNodeFactory().objectNode();
+            for (int i = 0; i < _names.length; i++) {
+                delegate.put(_names[i], node(i));
+            }
+            _delegate = delegate;
+            _bytes = null;
+            _chars = null;
+        }
+        return _delegate;
+    }
+
+    @Override
+    protected JsonNode node(String name) {
+        Integer slot = _index.get(name);
+        return (slot == null) ? null : node(slot);
+    }
+
+    @Override
+    public int size() {
+        return _names.length;
+    }
+
+    @Override
+    protected Iterator<Map.Entry<String, JsonNode>> fields() {
+        return new Iterator<Map.Entry<String, JsonNode>>() {
+            private int _slot;
+
+            @Override
+            public boolean hasNext() {
+                return _slot < _names.length;
+            }
+
+            @Override
+            public Map.Entry<String, JsonNode> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                int slot = _slot++;
+                return new AbstractMap.SimpleImmutableEntry<String, JsonNode>(_names[slot], node(slot));
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    protected Iterator<String> fieldNames() {
+        return Collections.unmodifiableList(Arrays.asList(_names)).iterator();
+    }
+}
@@ -2,6 +2,7 @@ package com.github.pgelinas.jackson.javax.json;
 
 import static java.lang.String.*;
 
+import java.util.*;
 import java.util.Map.Entry;
 
 import javax.json.*;
@@ -18,6 +19,10 @@ public final class NodeFactory {
 		_nodeFactory = nodeFactory;
 	}
 
+	JsonNodeFactory jsonNodeFactory() {
+		return _nodeFactory;
+	}
+
 	public JsonValue from(JsonNode node) {
         JsonToken token = node.asToken();
         switch (token) {
@@ -41,7 +46,45 @@ public final class NodeFactory {
         }
     }
 
+	/**
+	 * Converts {@code value} to a Jackson node. Jackson-backed values, including those nested in containers from other
+	 * implementations, are used as is; foreign containers are rebuilt with an explicit stack, so depth is only limited
+	 * by memory.
+	 */
 	public JsonNode from(JsonValue value) {
+		JsonNode node = leaf(value);
+		if (node != null) return node;
+		Deque<Frame> stack = new ArrayDeque<Frame>();
+		stack.push(new Frame(value, null));
+		while (true) {
+			Frame frame = stack.peek();
+			if (frame._iterator.hasNext()) {
+				Object next = frame._iterator.next();
+				String key = null;
+				JsonValue child;
+				if (next instanceof Entry) {
+					key = ((Entry<?, ?>) next).getKey().toString();
+					child = (JsonValue) ((Entry<?, ?>) next).getValue();
+				} else {
+					child = (JsonValue) next;
+				}
+				node = leaf(child);
+				if (node == null) stack.push(new Frame(child, key));
+				else frame.add(key, node);
+				continue;
+			}
+			stack.pop();
+			node = frame.build();
+			if (stack.isEmpty()) return node;
+			stack.peek().add(frame._key, node);
+		}
+	}
+
+	/**
+	 * Returns the node for a scalar or Jackson-backed value, or {@code null} for a container that must be rebuilt.
+	 */
+	private JsonNode leaf(JsonValue value) {
+		if (value instanceof JacksonValue) return ((JacksonValue<?>) value).delegate();
 		ValueType valueType = value.getValueType();
 		switch (valueType) {
 		case FALSE:
@@ -53,23 +96,63 @@ public final class NodeFactory {
 		case STRING:
 			return _nodeFactory.textNode(((JsonString) value).getString());
 		case NUMBER:
-			return _nodeFactory.numberNode(((JsonNumber) value).bigDecimalValue());
+			return numberNode((JsonNumber) value);
 		case OBJECT:
-			ObjectNode objectNode = _nodeFactory.objectNode();
-			JsonObject jsonObject = (JsonObject) value;
-			for (Entry<String, JsonValue> entry : jsonObject.entrySet()) {
-				objectNode.put(entry.getKey(), from(entry.getValue()));
-			}
-			return objectNode;
 		case ARRAY:
-			ArrayNode arrayNode = _nodeFactory.arrayNode();
-			JsonArray jsonArray = (JsonArray) value;
-			for (JsonValue jsonValue : jsonArray) {
-				arrayNode.add(from(jsonValue));
-			}
-			return arrayNode;
+			return null;
 		default:
 			throw new UnsupportedOperationException();
 		}
 	}
+
+	/**
+	 * A foreign container being rebuilt. Children are added to the resulting node as they come; Jackson's ArrayNode and
+	 * ObjectNode offer no way to presize their list or map, and collecting children elsewhere first would only copy them
+	 * again.
+	 */
+	private final class Frame {
+		private final Iterator<?> _iterator;
+		private final ObjectNode _object;
+		private final ArrayNode _array;
+		// Name of this container in its parent, if the parent is an object.
+		private final String _key;
+
+		Frame(JsonValue value, String key) {
+			_key = key;
+			if (value.getValueType() == ValueType.OBJECT) {
+				_object = _nodeFactory.objectNode();
+				_array = null;
+				_iterator = ((JsonObject) value).entrySet().iterator();
+			} else {
+				_object = null;
+				_array = _nodeFactory.arrayNode();
+				_iterator = ((JsonArray) value).iterator();
+			}
+		}
+
+		void add(String key, JsonNode node) {
+			if (_object != null) _object.put(key, node);
+			else _array.add(node);
+		}
+
+		JsonNode build() {
+			return (_object != null) ? _object : _array;
+		}
+	}
+
+	/**
+	 * Integral numbers that fit in a long become int or long nodes; only bigger or non-integral numbers go through
+	 * {@link java.math.BigInteger} or {@link java.math.BigDecimal}.
+	 */
+	private JsonNode numberNode(JsonNumber number) {
+		if (number.isIntegral()) {
+			try {
+				long value = number.longValueExact();
+				return (int) value == value ? _nodeFactory.numberNode((int) value) : _nodeFactory.numberNode(value);
+			} catch (ArithmeticException e) {
+				return _nodeFactory.numberNode(number.bigIntegerValue());
+			}
+		}
+		return _nodeFactory.numberNode(number.bigDecimalValue());
+	}
 }
@@ -2,6 +2,7 @@ package com.github.pgelinas.jackson.javax.json.spi;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.json.*;
 import javax.json.spi.*;
@@ -12,6 +13,8 @@ import com.github.pgelinas.jackson.javax.json.*;
 import com.github.pgelinas.jackson.javax.json.stream.*;
 
 public class JacksonProvider extends JsonProvider {
+    private static final int MAX_MAPPERS = 64;
+
     private final ObjectMapper _mapper = new ObjectMapper();
     private final NodeFactory _nodeFactory = new NodeFactory(_mapper.getNodeFactory());
     // Factories
@@ -20,8 +23,11 @@ public class JacksonProvider extends JsonProvider {
     private final JacksonWriterFactory _writerFactory;
     private final JacksonReaderFactory _readerFactory;
     private final JacksonBuilderFactory _builderFactory;
-    
-    
+    // Configured mappers, keyed by the features they enable or disable, shared by all the factories using them. Bounded,
+    // so callers creating many distinct configurations can't grow it forever.
+    private final ConcurrentMap<Map<String, Object>, ObjectMapper> _mappers = new ConcurrentHashMap<Map<String, Object>, ObjectMapper>();
+
+
     public JacksonProvider() {
         _parserFactory = new JacksonParserFactory(_mapper.getFactory(), _nodeFactory);
         _generatorFactory = new JacksonGeneratorFactory(_mapper.getFactory());
@@ -42,7 +48,7 @@ public class JacksonProvider extends JsonProvider {
 
     @Override
     public JsonParserFactory createParserFactory(Map<String, ?> config) {
-        return new JacksonParserFactory(config, _nodeFactory);
+        return new JacksonParserFactory(mapper(ConfigurationUtils.factoryFeatures(config)).getFactory(), _nodeFactory, config);
     }
 
     @Override
@@ -57,7 +63,7 @@ public class JacksonProvider extends JsonProvider {
 
     @Override
     public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config) {
-        return new JacksonGeneratorFactory(config);
+        return new JacksonGeneratorFactory(mapper(ConfigurationUtils.factoryFeatures(config)).getFactory(), config);
     }
 
     @Override
@@ -82,12 +88,12 @@ public class JacksonProvider extends JsonProvider {
 
     @Override
     public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
-        return new JacksonWriterFactory(config);
+        return new JacksonWriterFactory(mapper(ConfigurationUtils.mapperFeatures(config)), config);
     }
 
     @Override
     public JsonReaderFactory createReaderFactory(Map<String, ?> config) {
-        return new JacksonReaderFactory(config);
+        return new JacksonReaderFactory(mapper(ConfigurationUtils.readerFeatures(config)), _nodeFactory, config);
     }
 
     @Override
@@ -102,7 +108,26 @@ public class JacksonProvider extends JsonProvider {
 
     @Override
     public JsonBuilderFactory createBuilderFactory(Map<String, ?> config) {
-        return new JacksonBuilderFactory(config);
+        return new JacksonBuilderFactory(mapper(ConfigurationUtils.mapperFeatures(config)), _nodeFactory, config);
+    }
+
+    /**
+     * Returns the mapper configured with {@code features}, creating it on first use. The mapper's factory is what
+     * parser and generator factories use, so identical configurations share symbol tables and serializer caches. Once
+     * {@value #MAX_MAPPERS} configurations are cached, other configurations get a mapper of their own.
+     */
+    private ObjectMapper mapper(Map<String, Object> features) {
+        if (features.isEmpty()) return _mapper;
+        ObjectMapper mapper = _mappers.get(features);
+        if (mapper == null) {
+            mapper = new ObjectMapper();
+            ConfigurationUtils.configure(mapper, features);
+            if (_mappers.size() < MAX_MAPPERS) {
+                ObjectMapper existing = _mappers.putIfAbsent(features, mapper);
+                if (existing != null) mapper = existing;
+            }
+        }
+        return mapper;
     }
 
 }
@@ -0,0 +1,41 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * Reads the remaining bytes of a buffer without copying it first; used to feed direct and mapped buffers to Jackson.
+ */
+public class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer _buffer;
+
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        _buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return _buffer.hasRemaining() ? _buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) return 0;
+        if (!_buffer.hasRemaining()) return -1;
+        length = Math.min(length, _buffer.remaining());
+        _buffer.get(bytes, offset, length);
+        return length;
+    }
+
+    @Override
+    public long skip(long n) {
+        int skipped = (int) Math.max(0, Math.min(n, _buffer.remaining()));
+        _buffer.position(_buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return _buffer.remaining();
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * Writes into a buffer, advancing its position; throws {@link BufferOverflowException} once it is full. Lets callers
+ * reuse a heap or direct buffer as the destination of generated JSON.
+ */
+public class ByteBufferOutputStream extends OutputStream {
+    private final ByteBuffer _buffer;
+
+    public ByteBufferOutputStream(ByteBuffer buffer) {
+        _buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        _buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        _buffer.put(bytes, offset, length);
+    }
+}
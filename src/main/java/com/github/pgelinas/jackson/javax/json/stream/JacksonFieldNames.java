@@ -0,0 +1,58 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+/**
+ * A fixed set of expected keys, registered once and matched against the current key of a parser with
+ * {@link JacksonParser#getFieldIndex(JacksonFieldNames)}. Instances are immutable and can be shared between parsers and
+ * threads.
+ */
+public final class JacksonFieldNames {
+    private final String[] _names;
+    // Index + 1 of the name hashed to each position of an open-addressing table at most half full, 0 when empty.
+    private final int[] _table;
+    private final int _mask;
+
+    private JacksonFieldNames(String[] names) {
+        _names = new String[names.length];
+        int capacity = Integer.highestOneBit(Math.max(names.length, 1)) * 4;
+        _table = new int[capacity];
+        _mask = capacity - 1;
+        for (int index = 0; index < names.length; index++) {
+            // Jackson interns keys by default, so most lookups end with an identity match.
+            String name = names[index].intern();
+            int i = name.hashCode() & _mask;
+            while (_table[i] != 0) {
+                if (_names[_table[i] - 1] == name) throw new IllegalArgumentException("Duplicate name " + name);
+                i = (i + 1) & _mask;
+            }
+            _names[index] = name;
+            _table[i] = index + 1;
+        }
+    }
+
+    /**
+     * @param names the keys to match; the index of a key is its position in this list.
+     */
+    public static JacksonFieldNames of(String... names) {
+        return new JacksonFieldNames(names);
+    }
+
+    public int size() {
+        return _names.length;
+    }
+
+    public String get(int index) {
+        return _names[index];
+    }
+
+    /**
+     * @return the index of {@code name}, or -1 if it isn't part of this set.
+     */
+    public int indexOf(String name) {
+        for (int i = name.hashCode() & _mask;; i = (i + 1) & _mask) {
+            int index = _table[i] - 1;
+            if (index < 0) return -1;
+            String candidate = _names[index];
+            if (candidate == name || candidate.equals(name)) return index;
+        }
+    }
+}
@@ -2,10 +2,8 @@ package com.github.pgelinas.jackson.javax.json.stream;
 
 import java.io.*;
 import java.math.*;
-import java.util.Map.Entry;
 
 import javax.json.*;
-import javax.json.JsonValue.ValueType;
 import javax.json.stream.JsonGenerationException;
 import javax.json.stream.JsonGenerator;
 
@@ -73,8 +71,8 @@ public class JacksonGenerator implements JsonGenerator {
     public JsonGenerator write(String name, JsonValue value) {
         if (value == null) throw new NullPointerException();
 
-        // Fast track, implementation is Jackson-backed.
-        if (value instanceof JacksonValue) {
+        // Fast track, implementation is Jackson-backed; compact structures are walked like other implementations.
+        if (value instanceof JacksonValue && !(value instanceof CompactStructure)) {
             try {
                 _generator.writeFieldName(name);
                 _generator.writeTree(((JacksonValue<?>) value).delegate());
@@ -87,37 +85,14 @@ public class JacksonGenerator implements JsonGenerator {
         }
 
         // Slower track, implementation is not backed by Jackson and we need to generate json manually.
-        ValueType type = value.getValueType();
-        switch (type) {
-            case NUMBER:
-                write(name, ((JsonNumber) value).bigDecimalValue());
-                break;
-            case STRING:
-                write(name, ((JsonString) value).getString());
-                break;
-            case NULL:
-                writeNull(name);
-                break;
-            case FALSE:
-                write(name, false);
-                break;
-            case TRUE:
-                write(name, true);
-                break;
-            case ARRAY:
-                writeStartArray(name);
-                writeArray((JsonArray) value);
-                writeEnd();
-                break;
-            case OBJECT:
-                writeStartObject(name);
-                writeObject((JsonObject) value);
-                writeEnd();
-                break;
-            default:
-                throw new UnsupportedOperationException();
+        try {
+            _generator.writeFieldName(name);
+            JsonValueSerializer.serialize(value, _generator);
+        } catch (com.fasterxml.jackson.core.JsonGenerationException e) {
+            throw new JsonGenerationException("", e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
         }
-
         return this;
     }
 
@@ -241,8 +216,8 @@ public class JacksonGenerator implements JsonGenerator {
     public JsonGenerator write(JsonValue value) {
         if (value == null) throw new NullPointerException();
 
-        // Fast track, implementation is Jackson-backed.
-        if (value instanceof JacksonValue) {
+        // Fast track, implementation is Jackson-backed; compact structures are walked like other implementations.
+        if (value instanceof JacksonValue && !(value instanceof CompactStructure)) {
             try {
                 _generator.writeTree(((JacksonValue<?>) value).delegate());
             } catch (com.fasterxml.jackson.core.JsonGenerationException e) {
@@ -254,53 +229,18 @@ public class JacksonGenerator implements JsonGenerator {
         }
 
         // Slower track, implementation is not backed by Jackson and we need to generate json manually.
-        ValueType type = value.getValueType();
-        switch (type) {
-            case NUMBER:
-                write(((JsonNumber) value).bigDecimalValue());
-                break;
-            case STRING:
-                write(((JsonString) value).getString());
-                break;
-            case NULL:
-                writeNull();
-                break;
-            case FALSE:
-                write(false);
-                break;
-            case TRUE:
-                write(true);
-                break;
-            case ARRAY:
-                writeStartArray();
-                writeArray((JsonArray) value);
-                writeEnd();
-                break;
-            case OBJECT:
-                writeStartObject();
-                writeObject((JsonObject) value);
-                writeEnd();
-                break;
-            default:
-                throw new UnsupportedOperationException();
+        try {
+            JsonValueSerializer.serialize(value, _generator);
+        } catch (com.fasterxml.jackson.core.JsonGenerationException e) {
+            throw new JsonGenerationException("", e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
         }
 
         return this;
 
     }
 
-    private void writeObject(JsonObject value) {
-        for (Entry<String, JsonValue> entry : value.entrySet()) {
-            write(entry.getKey(), entry.getValue());
-        }
-    }
-
-    private void writeArray(JsonArray value) {
-        for (JsonValue jsonValue : value) {
-            write(jsonValue);
-        }
-    }
-
     @Override
     public JsonGenerator write(String value) {
         try {
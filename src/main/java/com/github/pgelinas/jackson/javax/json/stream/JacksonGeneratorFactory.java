@@ -1,6 +1,7 @@
 package com.github.pgelinas.jackson.javax.json.stream;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
 import java.util.*;
 
@@ -21,8 +22,17 @@ public class JacksonGeneratorFactory implements JsonGeneratorFactory {
     }
 
     public JacksonGeneratorFactory(Map<String, ?> config) {
-        _factory = new JsonFactory();
-        _configInUse = ConfigurationUtils.configure(_factory, config);
+        this(new JsonFactory(), config);
+        ConfigurationUtils.configure(_factory, config);
+    }
+
+    /**
+     * Generates with {@code factory}, which must already be configured according to {@code config} and may be shared
+     * with other factories.
+     */
+    public JacksonGeneratorFactory(JsonFactory factory, Map<String, ?> config) {
+        _factory = factory;
+        _configInUse = ConfigurationUtils.factoryFeatures(config);
         if(config != null && config.containsKey(JsonGenerator.PRETTY_PRINTING)){
             _prettyPrint = true;
             _configInUse.put(JsonGenerator.PRETTY_PRINTING, (Boolean)_prettyPrint);
@@ -58,7 +68,9 @@ public class JacksonGeneratorFactory implements JsonGeneratorFactory {
     @Override
     public JsonGenerator createGenerator(OutputStream out, Charset charset) {
         try {
-        com.fasterxml.jackson.core.JsonGenerator generator = _factory.createGenerator(new OutputStreamWriter(out, charset));
+        JsonEncoding encoding = JacksonValueUtils.encodingOf(charset);
+        com.fasterxml.jackson.core.JsonGenerator generator = encoding != null ? _factory.createGenerator(out, encoding)
+                : _factory.createGenerator(new OutputStreamWriter(out, charset));
         if(_prettyPrint){
             generator.useDefaultPrettyPrinter();
         }
@@ -68,6 +80,23 @@ public class JacksonGeneratorFactory implements JsonGeneratorFactory {
         }
     }
 
+    /**
+     * Generates into {@code buffer}, starting at its position which is advanced as content is flushed; throws
+     * {@link BufferOverflowException} if the buffer is too small. A heap or direct buffer can be reused across calls.
+     */
+    public JsonGenerator createGenerator(ByteBuffer buffer) {
+        return createGenerator(new ByteBufferOutputStream(buffer));
+    }
+
+    /**
+     * Generates into {@code length} bytes of {@code bytes} starting at {@code offset}.
+     * 
+     * @see #createGenerator(ByteBuffer)
+     */
+    public JsonGenerator createGenerator(byte[] bytes, int offset, int length) {
+        return createGenerator(ByteBuffer.wrap(bytes, offset, length));
+    }
+
     @Override
     public Map<String, ?> getConfigInUse() {
         return _configInUse;
@@ -1,7 +1,5 @@
 package com.github.pgelinas.jackson.javax.json.stream;
 
-import static com.fasterxml.jackson.core.JsonToken.*;
-
 import java.io.*;
 import java.math.*;
 import java.util.*;
@@ -13,32 +11,49 @@ import javax.json.stream.JsonParser;
 
 import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import com.github.pgelinas.jackson.javax.json.*;
 
 public class JacksonParser implements JsonParser {
 
-    private static EnumMap<JsonToken, Event> _tokenToEvent;
+    // Indexed by token ordinal; tokens without a JSON-P equivalent map to null.
+    private static final Event[] _tokenToEvent = new Event[JsonToken.values().length];
 
     static {
-        _tokenToEvent = new EnumMap<JsonToken, Event>(JsonToken.class);
-        _tokenToEvent.put(JsonToken.END_ARRAY, Event.END_ARRAY);
-        _tokenToEvent.put(JsonToken.END_OBJECT, Event.END_OBJECT);
-        _tokenToEvent.put(JsonToken.FIELD_NAME, Event.KEY_NAME);
-        _tokenToEvent.put(JsonToken.START_ARRAY, Event.START_ARRAY);
-        _tokenToEvent.put(JsonToken.START_OBJECT, Event.START_OBJECT);
-        _tokenToEvent.put(JsonToken.VALUE_FALSE, Event.VALUE_FALSE);
-        _tokenToEvent.put(JsonToken.VALUE_NULL, Event.VALUE_NULL);
-        _tokenToEvent.put(JsonToken.VALUE_NUMBER_FLOAT, Event.VALUE_NUMBER);
-        _tokenToEvent.put(JsonToken.VALUE_NUMBER_INT, Event.VALUE_NUMBER);
-        _tokenToEvent.put(JsonToken.VALUE_STRING, Event.VALUE_STRING);
-        _tokenToEvent.put(JsonToken.VALUE_TRUE, Event.VALUE_TRUE);
+        _tokenToEvent[JsonToken.END_ARRAY.ordinal()] = Event.END_ARRAY;
+        _tokenToEvent[JsonToken.END_OBJECT.ordinal()] = Event.END_OBJECT;
+        _tokenToEvent[JsonToken.FIELD_NAME.ordinal()] = Event.KEY_NAME;
+        _tokenToEvent[JsonToken.START_ARRAY.ordinal()] = Event.START_ARRAY;
+        _tokenToEvent[JsonToken.START_OBJECT.ordinal()] = Event.START_OBJECT;
+        _tokenToEvent[JsonToken.VALUE_FALSE.ordinal()] = Event.VALUE_FALSE;
+        _tokenToEvent[JsonToken.VALUE_NULL.ordinal()] = Event.VALUE_NULL;
+        _tokenToEvent[JsonToken.VALUE_NUMBER_FLOAT.ordinal()] = Event.VALUE_NUMBER;
+        _tokenToEvent[JsonToken.VALUE_NUMBER_INT.ordinal()] = Event.VALUE_NUMBER;
+        _tokenToEvent[JsonToken.VALUE_STRING.ordinal()] = Event.VALUE_STRING;
+        _tokenToEvent[JsonToken.VALUE_TRUE.ordinal()] = Event.VALUE_TRUE;
+    }
+
+    private static Event toEvent(JsonToken token) {
+        return token == null ? null : _tokenToEvent[token.ordinal()];
     }
 
     private com.fasterxml.jackson.core.JsonParser _parser;
+    private final NodeFactory _nodeFactory;
     private boolean _hasNextCalled;
-    private JsonToken _nextToken;
+    private boolean _lightweightFailures;
+    private final TextView _text = new TextView();
+    // Event the parser was last advanced to, and event last returned by next().
+    private Event _nextEvent;
+    private Event _currentEvent;
 
     public JacksonParser(com.fasterxml.jackson.core.JsonParser parser) {
+        this(parser, new NodeFactory(JsonNodeFactory.instance));
+    }
+
+    public JacksonParser(com.fasterxml.jackson.core.JsonParser parser, NodeFactory nodeFactory) {
         _parser = parser;
+        _nodeFactory = nodeFactory;
     }
 
     @Override
@@ -47,7 +62,7 @@ public class JacksonParser implements JsonParser {
             advanceParser();
             _hasNextCalled = true;
         }
-        return _tokenToEvent.containsKey(_nextToken);
+        return _nextEvent != null;
     }
 
     @Override
@@ -56,16 +71,16 @@ public class JacksonParser implements JsonParser {
             advanceParser();
         }
         _hasNextCalled = false;
-        Event event = _tokenToEvent.get(_nextToken);
-        if (event == null) throw new NoSuchElementException();
-        return event;
+        if (_nextEvent == null) throw new NoSuchElementException();
+        _currentEvent = _nextEvent;
+        return _currentEvent;
     }
 
     private void advanceParser() {
         try {
-            _nextToken = _parser.nextToken();
+            _nextEvent = toEvent(_parser.nextToken());
         } catch (JsonParseException e){
-            throw new JsonParsingException("", e, getLocation());
+            throw parsingException(e);
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -73,15 +88,14 @@ public class JacksonParser implements JsonParser {
 
     @Override
     public String getString() {
-        JsonToken currentToken = _parser.getCurrentToken();
         try {
-            if (currentToken == FIELD_NAME) {
+            if (_currentEvent == Event.KEY_NAME) {
                 return _parser.getCurrentName();
-            } else if (currentToken == VALUE_STRING
-                       || currentToken == VALUE_NUMBER_FLOAT
-                       || currentToken == VALUE_NUMBER_INT) { return _parser.getValueAsString(); }
+            } else if (_currentEvent == Event.VALUE_STRING || _currentEvent == Event.VALUE_NUMBER) {
+                return _parser.getText();
+            }
         } catch (JsonParseException e){
-            throw new JsonParsingException("", e, getLocation());
+            throw parsingException(e);
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -90,13 +104,12 @@ public class JacksonParser implements JsonParser {
 
     @Override
     public boolean isIntegralNumber() {
-        JsonToken currentToken = _parser.getCurrentToken();
-        if(currentToken != JsonToken.VALUE_NUMBER_FLOAT && currentToken != JsonToken.VALUE_NUMBER_INT)
+        if (_currentEvent != Event.VALUE_NUMBER)
             throw new IllegalStateException("Illegal parser state for isIntegralNumber()");
         try {
             return _parser.getNumberType() == NumberType.INT;
         } catch (JsonParseException e){
-            throw new JsonParsingException("", e, getLocation());
+            throw parsingException(e);
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -104,13 +117,12 @@ public class JacksonParser implements JsonParser {
 
     @Override
     public int getInt() {
-        JsonToken currentToken = _parser.getCurrentToken();
-        if(currentToken != JsonToken.VALUE_NUMBER_FLOAT && currentToken != JsonToken.VALUE_NUMBER_INT)
+        if (_currentEvent != Event.VALUE_NUMBER)
             throw new IllegalStateException("Illegal parser state for isIntegralNumber()");
         try {
             return _parser.getIntValue();
         } catch (JsonParseException e){
-            throw new JsonParsingException("", e, getLocation());
+            throw parsingException(e);
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -118,13 +130,12 @@ public class JacksonParser implements JsonParser {
 
     @Override
     public long getLong() {
-        JsonToken currentToken = _parser.getCurrentToken();
-        if(currentToken != JsonToken.VALUE_NUMBER_FLOAT && currentToken != JsonToken.VALUE_NUMBER_INT)
+        if (_currentEvent != Event.VALUE_NUMBER)
             throw new IllegalStateException("Illegal parser state for isIntegralNumber()");
         try {
             return _parser.getLongValue();
         } catch (JsonParseException e){
-            throw new JsonParsingException("", e, getLocation());
+            throw parsingException(e);
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -132,13 +143,185 @@ public class JacksonParser implements JsonParser {
 
     @Override
     public BigDecimal getBigDecimal() {
-        JsonToken currentToken = _parser.getCurrentToken();
-        if(currentToken != JsonToken.VALUE_NUMBER_FLOAT && currentToken != JsonToken.VALUE_NUMBER_INT)
+        if (_currentEvent != Event.VALUE_NUMBER)
             throw new IllegalStateException("Illegal parser state for isIntegralNumber()");
         try {
             return _parser.getDecimalValue();
         } catch (JsonParseException e){
-            throw new JsonParsingException("", e, getLocation());
+            throw parsingException(e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Returns the index of the current key in {@code names}, or -1 if it isn't one of them, so decoders can switch on
+     * the index instead of comparing strings. Jackson canonicalizes keys, so this doesn't create a string for keys
+     * already seen by the factory.
+     */
+    public int getFieldIndex(JacksonFieldNames names) {
+        if (_currentEvent != Event.KEY_NAME) throw new IllegalStateException("Illegal parser state for getFieldIndex()");
+        try {
+            return names.indexOf(_parser.getCurrentName());
+        } catch (JsonParseException e){
+            throw parsingException(e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Returns the current number as a double, without going through {@link #getBigDecimal()}.
+     */
+    public double getDouble() {
+        if (_currentEvent != Event.VALUE_NUMBER)
+            throw new IllegalStateException("Illegal parser state for getDouble()");
+        try {
+            return _parser.getDoubleValue();
+        } catch (JsonParseException e){
+            throw parsingException(e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Returns the smallest Jackson type that holds the current number, so callers can pick {@link #getInt()},
+     * {@link #getLong()}, {@link #getDouble()} or {@link #getBigDecimal()} without trial and error.
+     */
+    public NumberType getNumberType() {
+        if (_currentEvent != Event.VALUE_NUMBER)
+            throw new IllegalStateException("Illegal parser state for getNumberType()");
+        try {
+            return _parser.getNumberType();
+        } catch (JsonParseException e){
+            throw parsingException(e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Returns the text of the current key, string or number as a view over the parser's internal buffer, without
+     * creating a {@link String}. The view is only valid until the parser moves on; the same instance is returned on
+     * every call.
+     */
+    public CharSequence getTextCharacters() {
+        if (_currentEvent != Event.KEY_NAME && _currentEvent != Event.VALUE_STRING
+            && _currentEvent != Event.VALUE_NUMBER)
+            throw new IllegalStateException("Illegal parser state for getTextCharacters()");
+        try {
+            _text.reset(_parser.getTextCharacters(), _parser.getTextOffset(), _parser.getTextLength());
+        } catch (JsonParseException e){
+            throw parsingException(e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+        return _text;
+    }
+
+    /**
+     * Returns the length of the text of the current key, string or number.
+     * 
+     * @see #getTextCharacters()
+     */
+    public int getTextLength() {
+        if (_currentEvent != Event.KEY_NAME && _currentEvent != Event.VALUE_STRING
+            && _currentEvent != Event.VALUE_NUMBER)
+            throw new IllegalStateException("Illegal parser state for getTextLength()");
+        try {
+            return _parser.getTextLength();
+        } catch (JsonParseException e){
+            throw parsingException(e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    private static final class TextView implements CharSequence {
+        private char[] _chars;
+        private int _offset;
+        private int _length;
+
+        void reset(char[] chars, int offset, int length) {
+            _chars = chars;
+            _offset = offset;
+            _length = length;
+        }
+
+        @Override
+        public int length() {
+            return _length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= _length) throw new IndexOutOfBoundsException();
+            return _chars[_offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > _length || start > end) throw new IndexOutOfBoundsException();
+            return new String(_chars, _offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(_chars, _offset, _length);
+        }
+    }
+
+    /**
+     * Reads the value of the current event; for {@link Event#START_OBJECT} and {@link Event#START_ARRAY}, the whole
+     * structure is read and the next event is the one following its end. This allows materializing one element at a
+     * time out of a large stream. The underlying parser must have a codec, which is the case for parsers created by
+     * {@link JacksonParserFactory}.
+     */
+    public JsonValue getValue() {
+        if (_hasNextCalled || _currentEvent == null || _currentEvent == Event.KEY_NAME
+            || _currentEvent == Event.END_OBJECT || _currentEvent == Event.END_ARRAY)
+            throw new IllegalStateException("Illegal parser state for getValue()");
+        try {
+            JsonNode node = _parser.readValueAsTree();
+            _currentEvent = toEvent(_parser.getCurrentToken());
+            return _nodeFactory.from(node == null ? NullNode.getInstance() : node);
+        } catch (JsonParseException e){
+            throw parsingException(e);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * @see #getValue()
+     */
+    public JsonObject getObject() {
+        if (_hasNextCalled || _currentEvent != Event.START_OBJECT)
+            throw new IllegalStateException("Illegal parser state for getObject()");
+        return (JsonObject) getValue();
+    }
+
+    /**
+     * @see #getValue()
+     */
+    public JsonArray getArray() {
+        if (_hasNextCalled || _currentEvent != Event.START_ARRAY)
+            throw new IllegalStateException("Illegal parser state for getArray()");
+        return (JsonArray) getValue();
+    }
+
+    /**
+     * Skips the structure started by the current event without building anything, so the next event is the one
+     * following its end. Does nothing for other events.
+     */
+    public void skipValue() {
+        if (_hasNextCalled) throw new IllegalStateException("Illegal parser state for skipValue()");
+        try {
+            _parser.skipChildren();
+            _currentEvent = toEvent(_parser.getCurrentToken());
+        } catch (JsonParseException e){
+            throw parsingException(e);
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -151,6 +334,15 @@ public class JacksonParser implements JsonParser {
 
     }
 
+    void setLightweightFailures(boolean lightweightFailures) {
+        _lightweightFailures = lightweightFailures;
+    }
+
+    private JsonParsingException parsingException(JsonParseException e) {
+        if (_lightweightFailures) return new JacksonParsingException(e);
+        return new JsonParsingException("", e, getLocation());
+    }
+
     @Override
     public void close() {
         try {
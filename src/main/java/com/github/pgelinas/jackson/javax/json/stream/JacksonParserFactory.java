@@ -1,7 +1,9 @@
 package com.github.pgelinas.jackson.javax.json.stream;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
 
 import javax.json.*;
@@ -9,12 +11,20 @@ import javax.json.stream.*;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.github.pgelinas.jackson.javax.json.*;
 
 public class JacksonParserFactory implements JsonParserFactory {
+    /**
+     * Configuration key; when {@code true}, parse errors are reported as {@link JacksonParsingException}, which skips
+     * the stack trace and only computes its message and location on demand. Useful when malformed input is frequent.
+     */
+    public static final String LIGHTWEIGHT_FAILURES = "com.github.pgelinas.jackson.javax.json.lightweightFailures";
+
     private final JsonFactory _factory;
     private Map<String, Object> _configInUse;
     private final NodeFactory _nodeFactory;
+    private boolean _lightweightFailures;
 
     public JacksonParserFactory(JsonFactory factory, NodeFactory nodeFactory) {
         _factory = factory;
@@ -22,14 +32,28 @@ public class JacksonParserFactory implements JsonParserFactory {
     }
 
     public JacksonParserFactory(Map<String, ?> config, NodeFactory nodeFactory) {
-        this(new JsonFactory(), nodeFactory);
-        _configInUse = ConfigurationUtils.configure(_factory, config);
+        // The mapping factory gives parsers the codec needed to build subtrees, see JacksonParser.getValue().
+        this(new MappingJsonFactory(), nodeFactory, config);
+        ConfigurationUtils.configure(_factory, config);
+    }
+
+    /**
+     * Parses with {@code factory}, which must already be configured according to {@code config} and may be shared with
+     * other factories.
+     */
+    public JacksonParserFactory(JsonFactory factory, NodeFactory nodeFactory, Map<String, ?> config) {
+        this(factory, nodeFactory);
+        _configInUse = ConfigurationUtils.factoryFeatures(config);
+        if (config != null && Boolean.TRUE.equals(config.get(LIGHTWEIGHT_FAILURES))) {
+            _lightweightFailures = true;
+            _configInUse.put(LIGHTWEIGHT_FAILURES, _lightweightFailures);
+        }
     }
 
     @Override
     public javax.json.stream.JsonParser createParser(Reader reader) {
         try {
-            return new JacksonParser(_factory.createParser(reader));
+            return parser(_factory.createParser(reader));
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -38,7 +62,7 @@ public class JacksonParserFactory implements JsonParserFactory {
     @Override
     public javax.json.stream.JsonParser createParser(InputStream in) {
         try {
-            return new JacksonParser(_factory.createParser(in));
+            return parser(_factory.createParser(in));
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -47,7 +71,86 @@ public class JacksonParserFactory implements JsonParserFactory {
     @Override
     public javax.json.stream.JsonParser createParser(InputStream in, Charset charset) {
         try {
-            return new JacksonParser(_factory.createParser(new InputStreamReader(in, charset)));
+            if (JacksonValueUtils.isDetectable(charset)) return createParser(in);
+            return parser(_factory.createParser(new InputStreamReader(in, charset)));
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Parses straight out of {@code length} bytes of {@code bytes} starting at {@code offset}, without wrapping them in
+     * a stream.
+     */
+    public javax.json.stream.JsonParser createParser(byte[] bytes, int offset, int length) {
+        try {
+            return parser(_factory.createParser(bytes, offset, length));
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Parses the remaining bytes of {@code buffer}; heap buffers are parsed in place, others through a stream over
+     * them.
+     */
+    public javax.json.stream.JsonParser createParser(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return createParser(new ByteBufferInputStream(buffer));
+    }
+
+    /**
+     * Parses a file by memory-mapping it instead of reading it through a stream.
+     */
+    public javax.json.stream.JsonParser createParser(Path path) {
+        try {
+            return parser(_factory.createParser(MappedFileInput.open(path)));
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Iterates over the elements of the top-level array read from {@code reader}, one element at a time.
+     */
+    public JacksonValueIterator createElementIterator(Reader reader) {
+        try {
+            return new JacksonValueIterator(_factory.createParser(reader), _nodeFactory, true);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Iterates over the elements of the top-level array read from {@code in}, one element at a time.
+     */
+    public JacksonValueIterator createElementIterator(InputStream in) {
+        try {
+            return new JacksonValueIterator(_factory.createParser(in), _nodeFactory, true);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Iterates over the whitespace-separated root values (e.g. newline-delimited JSON) read from {@code reader}.
+     */
+    public JacksonValueIterator createValueIterator(Reader reader) {
+        try {
+            return new JacksonValueIterator(_factory.createParser(reader), _nodeFactory, false);
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    /**
+     * Iterates over the whitespace-separated root values (e.g. newline-delimited JSON) read from {@code in}.
+     */
+    public JacksonValueIterator createValueIterator(InputStream in) {
+        try {
+            return new JacksonValueIterator(_factory.createParser(in), _nodeFactory, false);
         } catch (IOException e) {
             throw new JsonException("", e);
         }
@@ -71,7 +174,15 @@ public class JacksonParserFactory implements JsonParserFactory {
             node = _nodeFactory.from(value);
         }
 
-        return new JacksonParser(node.traverse());
+        com.fasterxml.jackson.core.JsonParser parser = node.traverse();
+        parser.setCodec(_factory.getCodec());
+        return parser(parser);
+    }
+
+    private JacksonParser parser(com.fasterxml.jackson.core.JsonParser parser) {
+        JacksonParser jacksonParser = new JacksonParser(parser, _nodeFactory);
+        jacksonParser.setLightweightFailures(_lightweightFailures);
+        return jacksonParser;
     }
 
     @Override
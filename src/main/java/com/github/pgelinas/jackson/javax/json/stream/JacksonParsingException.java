@@ -0,0 +1,42 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import javax.json.stream.*;
+
+import com.fasterxml.jackson.core.*;
+
+/**
+ * A cheap {@link JsonParsingException}: it has no stack trace, and its message and location are only computed from the
+ * Jackson cause when asked for.
+ */
+public class JacksonParsingException extends JsonParsingException {
+    private static final long serialVersionUID = 1L;
+
+    private transient javax.json.stream.JsonLocation _location;
+
+    public JacksonParsingException(JsonProcessingException cause) {
+        super(null, cause, null);
+    }
+
+    @Override
+    public JsonProcessingException getCause() {
+        return (JsonProcessingException) super.getCause();
+    }
+
+    @Override
+    public String getMessage() {
+        return getCause().getOriginalMessage();
+    }
+
+    @Override
+    public javax.json.stream.JsonLocation getLocation() {
+        if (_location == null && getCause().getLocation() != null) {
+            _location = new JacksonLocation(getCause().getLocation());
+        }
+        return _location;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.function.*;
+
+import javax.json.*;
+import javax.json.stream.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import com.github.pgelinas.jackson.javax.json.*;
+
+/**
+ * Splits newline-delimited JSON held in a buffer at record boundaries, so each chunk can be parsed on its own thread
+ * with its own Jackson parser, e.g. through {@code StreamSupport.stream(spliterator, true)}. Records can't span lines,
+ * which NDJSON guarantees since JSON strings can't contain raw newlines. Locations in parsing errors are relative to
+ * the chunk being parsed.
+ */
+public class JacksonRecordSpliterator implements Spliterator<JsonValue> {
+    // Below this, the cost of another task outweighs parsing on the current thread.
+    private static final int MIN_SPLIT_SIZE = 64 * 1024;
+
+    private final JsonFactory _factory;
+    private final NodeFactory _nodeFactory;
+    private final ByteBuffer _buffer;
+    private int _position;
+    private final int _limit;
+    private com.fasterxml.jackson.core.JsonParser _parser;
+    private boolean _done;
+
+    /**
+     * Covers the remaining bytes of {@code buffer}; the factory must have a codec to build trees with.
+     */
+    public JacksonRecordSpliterator(JsonFactory factory, NodeFactory nodeFactory, ByteBuffer buffer) {
+        this(factory, nodeFactory, buffer, buffer.position(), buffer.limit());
+    }
+
+    private JacksonRecordSpliterator(JsonFactory factory, NodeFactory nodeFactory, ByteBuffer buffer, int position,
+            int limit) {
+        _factory = factory;
+        _nodeFactory = nodeFactory;
+        _buffer = buffer;
+        _position = position;
+        _limit = limit;
+    }
+
+    @Override
+    public Spliterator<JsonValue> trySplit() {
+        if (_parser != null || _limit - _position < MIN_SPLIT_SIZE) return null;
+        int split = _position + (_limit - _position) / 2;
+        while (split < _limit && _buffer.get(split - 1) != '\n') {
+            split++;
+        }
+        if (split >= _limit) return null;
+        Spliterator<JsonValue> prefix = new JacksonRecordSpliterator(_factory, _nodeFactory, _buffer, _position, split);
+        _position = split;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonValue> action) {
+        if (_done) return false;
+        try {
+            if (_parser == null) {
+                _parser = createParser();
+            }
+            if (_parser.nextToken() == null) {
+                _done = true;
+                _parser.close();
+                return false;
+            }
+            JsonNode node = _parser.readValueAsTree();
+            action.accept(_nodeFactory.from(node == null ? NullNode.getInstance() : node));
+            return true;
+        } catch (JsonParseException e) {
+            throw new JsonParsingException("", e, new JacksonLocation(_parser.getCurrentLocation()));
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    private com.fasterxml.jackson.core.JsonParser createParser() throws IOException {
+        if (_buffer.hasArray()) {
+            return _factory.createParser(_buffer.array(), _buffer.arrayOffset() + _position, _limit - _position);
+        }
+        ByteBuffer chunk = _buffer.duplicate();
+        chunk.limit(_limit).position(_position);
+        return _factory.createParser(new ByteBufferInputStream(chunk));
+    }
+
+    @Override
+    public long estimateSize() {
+        // Byte count; only used to balance splits.
+        return _limit - _position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+}
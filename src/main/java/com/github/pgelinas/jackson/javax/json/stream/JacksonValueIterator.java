@@ -0,0 +1,106 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import javax.json.*;
+import javax.json.stream.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.*;
+import com.github.pgelinas.jackson.javax.json.*;
+
+/**
+ * Iterates over the elements of a top-level array, or over a sequence of whitespace-separated root values, building
+ * only one value at a time so memory stays bounded regardless of the input size. The underlying parser must have a
+ * codec to build trees with.
+ */
+public class JacksonValueIterator implements Iterator<JsonValue>, Closeable {
+    private final com.fasterxml.jackson.core.JsonParser _parser;
+    private final NodeFactory _nodeFactory;
+    private final boolean _elements;
+    private boolean _started;
+    private boolean _ready;
+    private boolean _done;
+
+    /**
+     * @param elements if true, the input must be a single array whose elements are iterated; otherwise every root
+     *            value is iterated.
+     */
+    public JacksonValueIterator(com.fasterxml.jackson.core.JsonParser parser, NodeFactory nodeFactory, boolean elements) {
+        _parser = parser;
+        _nodeFactory = nodeFactory;
+        _elements = elements;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!_ready) {
+            advanceParser();
+            _ready = true;
+        }
+        return !_done;
+    }
+
+    private void advanceParser() {
+        try {
+            JsonToken token = _parser.nextToken();
+            if (!_started) {
+                _started = true;
+                if (_elements) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new JsonParsingException("Expected a top-level array", getLocation());
+                    }
+                    token = _parser.nextToken();
+                }
+            }
+            _done = token == null || (_elements && token == JsonToken.END_ARRAY);
+        } catch (JsonParseException e) {
+            throw new JsonParsingException("", e, getLocation());
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    @Override
+    public JsonValue next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        _ready = false;
+        try {
+            JsonNode node = _parser.readValueAsTree();
+            return _nodeFactory.from(node == null ? NullNode.getInstance() : node);
+        } catch (JsonParseException e) {
+            throw new JsonParsingException("", e, getLocation());
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * A sequential, lazily-evaluated stream over the remaining values; closing the stream closes this iterator.
+     */
+    public Stream<JsonValue> stream() {
+        Spliterator<JsonValue> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    private JacksonLocation getLocation() {
+        return new JacksonLocation(_parser.getCurrentLocation());
+    }
+
+    @Override
+    public void close() {
+        try {
+            _parser.close();
+        } catch (IOException e) {
+            throw new JsonException("", e);
+        }
+    }
+}
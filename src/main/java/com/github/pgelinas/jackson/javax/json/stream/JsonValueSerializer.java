@@ -0,0 +1,132 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+import java.util.Map.Entry;
+
+import javax.json.*;
+
+import com.fasterxml.jackson.core.*;
+import com.github.pgelinas.jackson.javax.json.*;
+
+/**
+ * Writes any {@link JsonValue} straight to a Jackson generator, including values from other JSON-P implementations.
+ * Containers are walked with an explicit stack rather than recursion, so depth is only limited by memory, and
+ * Jackson-backed values found anywhere in the tree are written from their node with the generator's codec, which must
+ * be set when the tree holds any; compact structures are written from their stored values.
+ */
+public final class JsonValueSerializer {
+    private JsonValueSerializer() {}
+
+    public static void serialize(JsonValue value, com.fasterxml.jackson.core.JsonGenerator generator) throws IOException {
+        Iterator<?> root = start(value, generator);
+        if (root == null) return;
+        Deque<Iterator<?>> stack = new ArrayDeque<Iterator<?>>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Iterator<?> iterator = stack.peek();
+            if (!iterator.hasNext()) {
+                stack.pop();
+                if (generator.getOutputContext().inObject()) generator.writeEndObject();
+                else generator.writeEndArray();
+                continue;
+            }
+            Object next = iterator.next();
+            Object child;
+            if (next instanceof Entry) {
+                Entry<?, ?> entry = (Entry<?, ?>) next;
+                generator.writeFieldName((String) entry.getKey());
+                child = entry.getValue();
+            } else {
+                child = next;
+            }
+            Iterator<?> children;
+            if (child instanceof JsonValue) {
+                children = start((JsonValue) child, generator);
+            } else {
+                writeStored(child, generator);
+                children = null;
+            }
+            if (children != null) stack.push(children);
+        }
+    }
+
+    /**
+     * Writes {@code value} if it is a scalar or Jackson-backed; otherwise writes the start of the container and returns
+     * an iterator over its entries or elements.
+     */
+    private static Iterator<?> start(JsonValue value, com.fasterxml.jackson.core.JsonGenerator generator)
+            throws IOException {
+        if (value == null) throw new NullPointerException();
+        if (value instanceof CompactStructure) {
+            if (value.getValueType() == JsonValue.ValueType.OBJECT) generator.writeStartObject();
+            else generator.writeStartArray();
+            return ((CompactStructure) value).storedValues();
+        }
+        if (value instanceof JacksonValue) {
+            generator.writeTree(((JacksonValue<?>) value).delegate());
+            return null;
+        }
+        switch (value.getValueType()) {
+            case OBJECT:
+                generator.writeStartObject();
+                return ((JsonObject) value).entrySet().iterator();
+            case ARRAY:
+                generator.writeStartArray();
+                return ((JsonArray) value).iterator();
+            case STRING:
+                generator.writeString(((JsonString) value).getString());
+                return null;
+            case NUMBER:
+                writeNumber((JsonNumber) value, generator);
+                return null;
+            case TRUE:
+                generator.writeBoolean(true);
+                return null;
+            case FALSE:
+                generator.writeBoolean(false);
+                return null;
+            case NULL:
+                generator.writeNull();
+                return null;
+            default:
+                throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Writes a plain value held by a {@link CompactStructure}.
+     */
+    private static void writeStored(Object value, com.fasterxml.jackson.core.JsonGenerator generator)
+            throws IOException {
+        if (value instanceof String) generator.writeString((String) value);
+        else if (value instanceof Integer) generator.writeNumber((Integer) value);
+        else if (value instanceof Long) generator.writeNumber((Long) value);
+        else if (value instanceof Double) generator.writeNumber((Double) value);
+        else if (value instanceof BigInteger) generator.writeNumber((BigInteger) value);
+        else if (value instanceof BigDecimal) generator.writeNumber((BigDecimal) value);
+        else throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Integral numbers that fit in a long are written as such; only bigger or non-integral numbers go through
+     * {@link BigInteger} or {@link BigDecimal}.
+     */
+    private static void writeNumber(JsonNumber value, com.fasterxml.jackson.core.JsonGenerator generator)
+            throws IOException {
+        if (value.isIntegral()) {
+            long number;
+            try {
+                number = value.longValueExact();
+            } catch (ArithmeticException e) {
+                generator.writeNumber(value.bigIntegerValue());
+                return;
+            }
+            if ((int) number == number) generator.writeNumber((int) number);
+            else generator.writeNumber(number);
+            return;
+        }
+        generator.writeNumber(value.bigDecimalValue());
+    }
+}
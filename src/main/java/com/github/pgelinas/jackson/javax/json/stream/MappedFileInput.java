@@ -0,0 +1,36 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Memory-maps files so their content reaches Jackson without going through read() system calls.
+ */
+public final class MappedFileInput {
+    // A single mapping is limited to Integer.MAX_VALUE bytes.
+    private static final long CHUNK_SIZE = Integer.MAX_VALUE;
+
+    private MappedFileInput() {}
+
+    /**
+     * Maps the whole file, in several regions if it is larger than 2GB. The mappings stay valid after the file is
+     * closed, which happens before this method returns.
+     */
+    public static InputStream open(Path path) throws IOException {
+        List<InputStream> chunks = new ArrayList<InputStream>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            do {
+                long length = Math.min(CHUNK_SIZE, size - position);
+                chunks.add(new ByteBufferInputStream(channel.map(MapMode.READ_ONLY, position, length)));
+                position += length;
+            } while (position < size);
+        }
+        if (chunks.size() == 1) return chunks.get(0);
+        return new SequenceInputStream(Collections.enumeration(chunks));
+    }
+}
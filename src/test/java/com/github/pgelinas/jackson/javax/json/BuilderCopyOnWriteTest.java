@@ -0,0 +1,47 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.spi.JsonProvider;
+
+import org.junit.Test;
+
+public class BuilderCopyOnWriteTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @Test
+    public void objectBuiltIsNotAffectedByLaterMutation() {
+        JsonObjectBuilder builder = PROVIDER.createObjectBuilder().add("a", 1);
+        JsonObject first = builder.build();
+        JsonObject second = builder.add("b", 2).build();
+        assertThat(first.toString(), equalTo("{\"a\":1}"));
+        assertThat(second.toString(), equalTo("{\"a\":1,\"b\":2}"));
+    }
+
+    @Test
+    public void arrayBuiltIsNotAffectedByLaterMutation() {
+        JsonArrayBuilder builder = PROVIDER.createArrayBuilder().add(1);
+        JsonArray first = builder.build();
+        JsonArray second = builder.add(2).build();
+        assertThat(first.toString(), equalTo("[1]"));
+        assertThat(second.toString(), equalTo("[1,2]"));
+    }
+
+    @Test
+    public void nestedBuilderMutationDoesNotLeakIntoParent() {
+        JsonObjectBuilder child = PROVIDER.createObjectBuilder().add("a", 1);
+        JsonArrayBuilder items = PROVIDER.createArrayBuilder().add(child);
+        JsonObjectBuilder parent = PROVIDER.createObjectBuilder().add("child", child).add("items", items);
+        JsonObject built = parent.build();
+        child.add("b", 2);
+        items.add(3);
+        assertThat(built.toString(), equalTo("{\"child\":{\"a\":1},\"items\":[{\"a\":1}]}"));
+        assertThat(parent.build().toString(), equalTo(built.toString()));
+    }
+}
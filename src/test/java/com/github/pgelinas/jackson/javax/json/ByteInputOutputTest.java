@@ -0,0 +1,84 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import javax.json.JsonObject;
+import javax.json.JsonWriter;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.junit.Test;
+
+import com.github.pgelinas.jackson.javax.json.stream.JacksonGeneratorFactory;
+import com.github.pgelinas.jackson.javax.json.stream.JacksonParserFactory;
+
+public class ByteInputOutputTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String JSON = "{\"a\":[1,\"b\"],\"c\":{}}";
+
+    private static final byte[] PADDED = ("xx" + JSON + "yy").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void readsByteArrayRegion() {
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        assertThat(factory.createReader(PADDED, 2, JSON.length()).readObject().toString(), equalTo(JSON));
+        JacksonReaderFactory lazy = (JacksonReaderFactory) PROVIDER.createReaderFactory(Collections.singletonMap(JacksonReaderFactory.LAZY_READ, true));
+        JsonObject object = lazy.createReader(PADDED, 2, JSON.length()).readObject();
+        assertThat(object.getJsonArray("a").getString(1), equalTo("b"));
+        assertThat(object.toString(), equalTo(JSON));
+    }
+
+    @Test
+    public void readsDirectBuffer() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(PADDED.length);
+        direct.put(PADDED).position(2).limit(2 + JSON.length());
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        assertThat(factory.createReader(direct).readObject().toString(), equalTo(JSON));
+    }
+
+    @Test
+    public void parsesHeapBuffer() {
+        JacksonParserFactory factory = (JacksonParserFactory) PROVIDER.createParserFactory(null);
+        JsonParser parser = factory.createParser(ByteBuffer.wrap(PADDED, 2, JSON.length()));
+        assertThat(parser.next(), equalTo(Event.START_OBJECT));
+        assertThat(parser.next(), equalTo(Event.KEY_NAME));
+        assertThat(parser.getString(), equalTo("a"));
+        parser.close();
+    }
+
+    @Test
+    public void writesIntoReusableBuffer() {
+        JsonObject object = PROVIDER.createReader(new java.io.StringReader(JSON)).readObject();
+        JacksonWriterFactory factory = (JacksonWriterFactory) PROVIDER.createWriterFactory(null);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        for (int i = 0; i < 2; i++) {
+            buffer.clear();
+            JsonWriter writer = factory.createWriter(buffer);
+            writer.write(object);
+            writer.close();
+            buffer.flip();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            assertThat(new String(bytes, StandardCharsets.UTF_8), equalTo(JSON));
+        }
+        assertThat(new String(factory.writeBytes(object), StandardCharsets.UTF_8), equalTo(JSON));
+    }
+
+    @Test
+    public void generatesIntoByteArrayRegion() {
+        byte[] bytes = new byte[16];
+        JacksonGeneratorFactory factory = (JacksonGeneratorFactory) PROVIDER.createGeneratorFactory(null);
+        JsonGenerator generator = factory.createGenerator(bytes, 4, 8);
+        generator.writeStartArray().write(1).writeEnd().close();
+        assertThat(new String(bytes, 4, 3, StandardCharsets.UTF_8), equalTo("[1]"));
+    }
+}
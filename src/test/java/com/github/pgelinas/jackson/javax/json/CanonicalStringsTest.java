@@ -0,0 +1,78 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonReaderFactory;
+import javax.json.spi.JsonProvider;
+
+import org.junit.Test;
+
+public class CanonicalStringsTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String DOCUMENT = "[{\"status\":\"ok\"},{\"status\":\"ok\"},{\"status\":\"failed\"}]";
+
+    @Test
+    public void sharesRepeatedStrings() {
+        JsonReaderFactory factory = PROVIDER.createReaderFactory(Collections.singletonMap(
+                JacksonReaderFactory.CANONICAL_STRINGS, 16));
+        JsonArray rows = factory.createReader(new StringReader(DOCUMENT)).readArray();
+
+        assertThat(node(rows, 0), sameInstance(node(rows, 1)));
+        assertThat(rows.getJsonObject(0).getString("status"), sameInstance(rows.getJsonObject(1).getString("status")));
+        assertThat(rows.getJsonObject(2).getString("status"), equalTo("failed"));
+        assertThat(factory.getConfigInUse().get(JacksonReaderFactory.CANONICAL_STRINGS), equalTo((Object) 16));
+    }
+
+    @Test
+    public void sharesRepeatedStringsAcrossDocuments() {
+        JsonReaderFactory factory = PROVIDER.createReaderFactory(Collections.singletonMap(
+                JacksonReaderFactory.CANONICAL_STRINGS, true));
+        JsonArray first = factory.createReader(new StringReader(DOCUMENT)).readArray();
+        JsonArray second = factory.createReader(new StringReader(DOCUMENT)).readArray();
+
+        assertThat(node(first, 2), sameInstance(node(second, 2)));
+    }
+
+    @Test
+    public void sharesCacheBetweenFactoriesWithSameConfiguration() {
+        Map<String, ?> config = Collections.singletonMap(JacksonReaderFactory.CANONICAL_STRINGS, 32);
+        JsonArray first = PROVIDER.createReaderFactory(config).createReader(new StringReader(DOCUMENT)).readArray();
+        JsonArray second = PROVIDER.createReaderFactory(config).createReader(new StringReader(DOCUMENT)).readArray();
+
+        assertThat(node(first, 2), sameInstance(node(second, 2)));
+    }
+
+    @Test
+    public void sharesRepeatedStringsInCompactTrees() {
+        Map<String, Object> config = new HashMap<String, Object>();
+        config.put(JacksonReaderFactory.CANONICAL_STRINGS, 16);
+        config.put(JacksonReaderFactory.COMPACT_TREE, true);
+        JsonArray rows = PROVIDER.createReaderFactory(config).createReader(new StringReader(DOCUMENT)).readArray();
+
+        assertThat(rows.getJsonObject(0).getString("status"), sameInstance(rows.getJsonObject(1).getString("status")));
+    }
+
+    @Test
+    public void leavesOtherFactoriesAlone() {
+        PROVIDER.createReaderFactory(Collections.singletonMap(JacksonReaderFactory.CANONICAL_STRINGS, 16));
+        JsonArray rows = PROVIDER.createReaderFactory(Collections.<String, Object> emptyMap())
+                .createReader(new StringReader(DOCUMENT)).readArray();
+
+        assertThat(node(rows, 0) == node(rows, 1), is(false));
+    }
+
+    private static Object node(JsonArray rows, int index) {
+        return ((JacksonString) rows.getJsonObject(index).getJsonString("status")).delegate();
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.JsonObject;
+import javax.json.JsonWriter;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.junit.Test;
+
+public class CharsetTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String JSON = "{\"name\":\"Ren\u00e9e\",\"n\":1}";
+
+    private static final Charset[] CHARSETS = { StandardCharsets.UTF_8, StandardCharsets.UTF_16,
+            StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE, Charset.forName("UTF-32LE"),
+            StandardCharsets.ISO_8859_1 };
+
+    @Test
+    public void readsEveryCharset() {
+        for (Charset charset : CHARSETS) {
+            ByteArrayInputStream in = new ByteArrayInputStream(JSON.getBytes(charset));
+            JsonObject object = PROVIDER.createReaderFactory(null).createReader(in, charset).readObject();
+            assertThat(charset.name(), object.getString("name"), equalTo("Ren\u00e9e"));
+        }
+    }
+
+    @Test
+    public void parsesEveryCharset() {
+        for (Charset charset : CHARSETS) {
+            ByteArrayInputStream in = new ByteArrayInputStream(JSON.getBytes(charset));
+            JsonParser parser = PROVIDER.createParserFactory(null).createParser(in, charset);
+            parser.next();
+            parser.next();
+            assertThat(charset.name(), parser.next(), equalTo(Event.VALUE_STRING));
+            assertThat(charset.name(), parser.getString(), equalTo("Ren\u00e9e"));
+            parser.close();
+        }
+    }
+
+    @Test
+    public void writesEveryCharset() {
+        JsonObject object = PROVIDER.createReader(new java.io.StringReader(JSON)).readObject();
+        for (Charset charset : CHARSETS) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonWriter writer = PROVIDER.createWriterFactory(null).createWriter(out, charset);
+            writer.write(object);
+            writer.close();
+            assertThat(charset.name(), out.toByteArray(), equalTo(JSON.getBytes(charset)));
+        }
+    }
+
+    @Test
+    public void generatesEveryCharset() {
+        for (Charset charset : CHARSETS) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonGenerator generator = PROVIDER.createGeneratorFactory(null).createGenerator(out, charset);
+            generator.writeStartObject().write("name", "Ren\u00e9e").write("n", 1).writeEnd().close();
+            assertThat(charset.name(), out.toByteArray(), equalTo(JSON.getBytes(charset)));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+public class CompactTreeTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String DOCUMENT = "{\"name\":\"a\",\"count\":3,\"big\":12345678901234,\"ratio\":0.5,"
+                                           + "\"flag\":true,\"none\":null,\"rows\":[{\"id\":1,\"tag\":\"x\"},"
+                                           + "{\"id\":2,\"tag\":\"y\"}],\"name\":\"b\"}";
+
+    private static final JsonReaderFactory COMPACT = PROVIDER.createReaderFactory(Collections.singletonMap(
+            JacksonReaderFactory.COMPACT_TREE, true));
+
+    @Test
+    public void readsSameValuesAsRegularTree() {
+        JsonObject compact = COMPACT.createReader(new StringReader(DOCUMENT)).readObject();
+        JsonObject regular = PROVIDER.createReader(new StringReader(DOCUMENT)).readObject();
+
+        assertThat(compact, instanceOf(CompactJacksonObject.class));
+        assertThat(compact, equalTo(regular));
+        assertThat(regular, equalTo(compact));
+        assertThat(compact.toString(), equalTo(regular.toString()));
+        assertThat(compact.keySet(), equalTo(regular.keySet()));
+    }
+
+    @Test
+    public void readsFieldsDirectly() {
+        JsonObject object = COMPACT.createReader(new StringReader(DOCUMENT)).readObject();
+
+        assertThat(object.getString("name"), equalTo("b"));
+        assertThat(object.getInt("count"), equalTo(3));
+        assertThat(object.getJsonNumber("big").longValue(), equalTo(12345678901234L));
+        assertThat(object.getJsonNumber("ratio").doubleValue(), equalTo(0.5));
+        assertThat(object.getBoolean("flag"), is(true));
+        assertThat(object.isNull("none"), is(true));
+        assertThat(object.get("none"), sameInstance(JsonValue.NULL));
+        assertThat(object.getString("missing", "default"), equalTo("default"));
+        assertThat(object.getInt("missing", 7), equalTo(7));
+        JsonArray rows = object.getJsonArray("rows");
+        assertThat(rows.getJsonObject(1).getString("tag"), equalTo("y"));
+        assertThat(rows.getJsonObject(0).getInt("id"), equalTo(1));
+        assertThat(rows.getValueType(), equalTo(JsonValue.ValueType.ARRAY));
+    }
+
+    @Test
+    public void hashesLikeRegularAndLazyTrees() {
+        JsonObject compact = COMPACT.createReader(new StringReader(DOCUMENT)).readObject();
+        JsonObject regular = PROVIDER.createReader(new StringReader(DOCUMENT)).readObject();
+        JsonObject lazy = PROVIDER.createReaderFactory(Collections.singletonMap(JacksonReaderFactory.LAZY_READ, true))
+                .createReader(new StringReader(DOCUMENT)).readObject();
+        assertThat(lazy, instanceOf(LazyJacksonObject.class));
+
+        for (JsonObject left : Arrays.asList(compact, regular, lazy)) {
+            for (JsonObject right : Arrays.asList(compact, regular, lazy)) {
+                assertThat(left, equalTo(right));
+                assertThat(left.hashCode(), equalTo(right.hashCode()));
+                assertThat(left.entrySet(), equalTo(right.entrySet()));
+            }
+        }
+        assertThat(new HashSet<JsonObject>(Arrays.asList(compact, regular, lazy)).size(), equalTo(1));
+    }
+
+    @Test
+    public void sharesShapeBetweenObjectsOfSameLayout() throws Exception {
+        JsonArray rows = COMPACT.createReader(new StringReader("[{\"a\":1,\"b\":2},{\"a\":3,\"b\":4},{\"b\":5}]"))
+                .readArray();
+        JsonObject other = COMPACT.createReader(new StringReader("{\"a\":5,\"b\":6}")).readObject();
+
+        assertThat(shape(rows.get(0)), sameInstance(shape(rows.get(1))));
+        assertThat(shape(rows.get(0)), sameInstance(shape(other)));
+        assertThat(shape(rows.get(0)) == shape(rows.get(2)), is(false));
+        assertThat(rows.getJsonObject(1).getInt("b"), equalTo(4));
+        assertThat(rows.getJsonObject(2).containsKey("a"), is(false));
+    }
+
+    private static JacksonShape shape(JsonValue object) throws Exception {
+        java.lang.reflect.Field field = CompactJacksonObject.class.getDeclaredField("_shape");
+        field.setAccessible(true);
+        return (JacksonShape) field.get(object);
+    }
+
+    @Test
+    public void resolvesEveryKeyOfLargeShape() {
+        String[] keys = new String[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + i;
+        }
+        JacksonShape shape = new JacksonShape(keys);
+
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(shape.slot(new String(keys[i])), equalTo(i));
+        }
+        assertThat(shape.slot("missing"), equalTo(-1));
+        assertThat(new JacksonShape(new String[0]).slot("missing"), equalTo(-1));
+    }
+
+    @Test
+    public void buildsCompactTree() {
+        JsonObject object = PROVIDER.createBuilderFactory(Collections.singletonMap(JacksonReaderFactory.COMPACT_TREE,
+                true)).createObjectBuilder().add("a", 1).add("b", PROVIDER.createArrayBuilder().add("c")).build();
+
+        assertThat(object, instanceOf(CompactJacksonObject.class));
+        assertThat(object.getJsonArray("b"), instanceOf(CompactJacksonArray.class));
+        assertThat(object.toString(), equalTo("{\"a\":1,\"b\":[\"c\"]}"));
+    }
+
+    @Test
+    public void writesCompactTree() {
+        JsonObject object = COMPACT.createReader(new StringReader(DOCUMENT)).readObject();
+        StringWriter writer = new StringWriter();
+        PROVIDER.createWriter(writer).write(object);
+
+        assertThat(writer.toString(), equalTo(PROVIDER.createReader(new StringReader(DOCUMENT)).readObject()
+                .toString()));
+    }
+
+    @Test
+    public void handlesDeepCompactTree() {
+        int depth = 100000;
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < depth; i++) json.append('[');
+        json.append(1);
+        for (int i = 0; i < depth; i++) json.append(']');
+        JsonArray array = COMPACT.createReader(new StringReader(json.toString())).readArray();
+        StringWriter writer = new StringWriter();
+        PROVIDER.createWriter(writer).write(array);
+
+        assertThat(writer.toString(), equalTo(json.toString()));
+        assertThat(array.toString(), equalTo(json.toString()));
+        assertThat(((CompactJacksonArray) array).delegate().size(), equalTo(1));
+    }
+
+    @Test
+    public void wrapsValuesOnce() {
+        JsonObject object = COMPACT.createReader(new StringReader(DOCUMENT)).readObject();
+
+        assertThat(object.getJsonString("name"), sameInstance(object.getJsonString("name")));
+        assertThat(object.getJsonArray("rows").get(0), sameInstance(object.getJsonArray("rows").get(0)));
+        assertThat(object.entrySet().iterator().next().getValue(), sameInstance(object.get("name")));
+    }
+
+    @Test
+    public void rejectsMismatchedStructure() {
+        try {
+            COMPACT.createReader(new StringReader("[1]")).readObject();
+            fail();
+        } catch (JsonParsingException e) {
+            // expected
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -60,6 +62,135 @@ public class CompatibilityTest {
         assertThat(writer.toString(), equalTo("[\"zeString\"]"));
     }
     
+    @Test
+    public void handleArbitraryNumberImpl() throws Exception {
+        List<JsonValue> data = new ArrayList<JsonValue>();
+        data.add(new MyJsonNumber(new BigDecimal(42)));
+        data.add(new MyJsonNumber(new BigDecimal(Long.MAX_VALUE)));
+        data.add(new MyJsonNumber(new BigDecimal("123456789012345678901234567890")));
+        data.add(new MyJsonNumber(new BigDecimal("1.25")));
+        String expected = "[42,9223372036854775807,123456789012345678901234567890,1.25]";
+        StringWriter writer = new StringWriter();
+        JsonWriter jsonWriter = PROVIDER.createWriter(writer);
+        jsonWriter.write(new MyJsonArray(data));
+        jsonWriter.close();
+        assertThat(writer.toString(), equalTo(expected));
+
+        JsonArrayBuilder builder = PROVIDER.createArrayBuilder();
+        for (JsonValue value : data) {
+            builder.add(value);
+        }
+        JsonArray array = builder.build();
+        assertThat(array.toString(), equalTo(expected));
+        assertThat(array.getJsonNumber(0).intValueExact(), equalTo(42));
+        assertThat(array.getJsonNumber(1).longValueExact(), equalTo(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void handleDeepArbitraryArrayImpl() throws Exception {
+        int depth = 100000;
+        JsonArray array = new MyJsonArray(new ArrayList<JsonValue>());
+        for (int i = 0; i < depth; i++) {
+            List<JsonValue> data = new ArrayList<JsonValue>();
+            data.add(array);
+            array = new MyJsonArray(data);
+        }
+        List<JsonValue> data = new ArrayList<JsonValue>();
+        data.add(array);
+        data.add(PROVIDER.createArrayBuilder().add(new MyJsonString("zeString")).build());
+        StringWriter writer = new StringWriter();
+        JsonWriter jsonWriter = PROVIDER.createWriter(writer);
+        jsonWriter.write(new MyJsonArray(data));
+        jsonWriter.close();
+        String json = writer.toString();
+        assertThat(json.length(), equalTo(2 * (depth + 2) + 13));
+        assertThat(json.substring(json.length() - 16), equalTo("]],[\"zeString\"]]"));
+    }
+
+    @Test
+    public void convertsDeepArbitraryArrayImpl() throws Exception {
+        int depth = 100000;
+        JsonObject shared = PROVIDER.createObjectBuilder().add("zeName", "zeString").build();
+        List<JsonValue> innermost = new ArrayList<JsonValue>();
+        innermost.add(shared);
+        JsonArray array = new MyJsonArray(innermost);
+        for (int i = 0; i < depth; i++) {
+            List<JsonValue> data = new ArrayList<JsonValue>();
+            data.add(array);
+            array = new MyJsonArray(data);
+        }
+        JsonArray converted = PROVIDER.createArrayBuilder().add(array).build().getJsonArray(0);
+        for (int i = 0; i < depth; i++) {
+            converted = converted.getJsonArray(0);
+        }
+        JsonObject object = converted.getJsonObject(0);
+        assertThat(object.getString("zeName"), equalTo("zeString"));
+        assertThat(((JacksonObject) object).delegate() == ((JacksonObject) shared).delegate(), equalTo(true));
+    }
+
+    public static class MyJsonNumber implements JsonNumber {
+        private final BigDecimal _value;
+
+        public MyJsonNumber(BigDecimal value) {
+            _value = value;
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.NUMBER;
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return _value.scale() == 0;
+        }
+
+        @Override
+        public int intValue() {
+            return _value.intValue();
+        }
+
+        @Override
+        public int intValueExact() {
+            return _value.intValueExact();
+        }
+
+        @Override
+        public long longValue() {
+            return _value.longValue();
+        }
+
+        @Override
+        public long longValueExact() {
+            return _value.longValueExact();
+        }
+
+        @Override
+        public BigInteger bigIntegerValue() {
+            return _value.toBigInteger();
+        }
+
+        @Override
+        public BigInteger bigIntegerValueExact() {
+            return _value.toBigIntegerExact();
+        }
+
+        @Override
+        public double doubleValue() {
+            return _value.doubleValue();
+        }
+
+        @Override
+        public BigDecimal bigDecimalValue() {
+            return _value;
+        }
+
+        @Override
+        public String toString() {
+            return _value.toString();
+        }
+    }
+
     public static class MyJsonString implements JsonString {
         private String _zeString;
 
@@ -0,0 +1,60 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+import org.junit.Test;
+
+public class JacksonObjectTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final JsonObject OBJECT = PROVIDER.createReader(new StringReader("{\"z\":1,\"a\":\"b\",\"m\":null}")).readObject();
+
+    @Test
+    public void lookupsUseDelegate() {
+        assertThat(OBJECT.size(), equalTo(3));
+        assertThat(OBJECT.isEmpty(), equalTo(false));
+        assertThat(OBJECT.containsKey("m"), equalTo(true));
+        assertThat(OBJECT.containsKey("missing"), equalTo(false));
+        assertThat(OBJECT.get("missing"), nullValue());
+        assertThat(OBJECT.getJsonString("a").getString(), equalTo("b"));
+    }
+
+    @Test
+    public void keySetFollowsDocumentOrder() {
+        assertThat(new ArrayList<String>(OBJECT.keySet()), equalTo(Arrays.asList("z", "a", "m")));
+    }
+
+    @Test
+    public void entrySetFollowsDocumentOrder() {
+        List<String> keys = new ArrayList<String>();
+        for (Map.Entry<String, JsonValue> entry : OBJECT.entrySet()) {
+            keys.add(entry.getKey());
+            assertThat(entry.getValue(), equalTo(OBJECT.get(entry.getKey())));
+        }
+        assertThat(keys, equalTo(Arrays.asList("z", "a", "m")));
+        assertThat(OBJECT.entrySet().size(), equalTo(3));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void entrySetIsReadOnly() {
+        OBJECT.entrySet().clear();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void keySetIsReadOnly() {
+        OBJECT.keySet().remove("z");
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import javax.json.JsonObject;
+import javax.json.JsonReaderFactory;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+public class LazyReadTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final JsonReaderFactory LAZY = PROVIDER.createReaderFactory(Collections.singletonMap(JacksonReaderFactory.LAZY_READ, true));
+
+    private static final String JSON = "{ \"a\\\"{\" : {\"x\":[1,2,\"\u00e9]\"]}, \"b\":\"h\u00e9llo\" ,\"c\":\t[ 3 ], \"n\":null, \"d\":{}, \"c\":[4]}";
+
+    @Test
+    public void readsSameObjectFromBytes() throws Exception {
+        JsonObject lazy = LAZY.createReader(new ByteArrayInputStream(JSON.getBytes("UTF-8"))).readObject();
+        assertLikeEager(lazy);
+    }
+
+    @Test
+    public void readsSameObjectFromBytesAtOffset() throws Exception {
+        String prefix = "\u00e9\u00e9{[\"";
+        byte[] bytes = (prefix + JSON + "\"]}").getBytes("UTF-8");
+        int offset = prefix.getBytes("UTF-8").length;
+        int length = JSON.getBytes("UTF-8").length;
+        JacksonReaderFactory factory = (JacksonReaderFactory) LAZY;
+
+        JsonObject lazy = factory.createReader(bytes, offset, length).readObject();
+        assertThat(lazy, instanceOf(LazyJacksonObject.class));
+        assertLikeEager(lazy);
+        lazy = factory.createReader(ByteBuffer.wrap(bytes, offset, length)).readObject();
+        assertThat(lazy, instanceOf(LazyJacksonObject.class));
+        assertLikeEager(lazy);
+    }
+
+    @Test
+    public void readsSameObjectFromUtf16Bytes() throws Exception {
+        JsonObject lazy = LAZY.createReader(new ByteArrayInputStream(JSON.getBytes("UTF-16BE"))).readObject();
+        assertLikeEager(lazy);
+    }
+
+    @Test
+    public void readsSameObjectFromChars() {
+        JsonObject lazy = LAZY.createReader(new StringReader(JSON)).readObject();
+        assertLikeEager(lazy);
+    }
+
+    @Test
+    public void fieldsAreOnlyBuiltWhenAccessed() {
+        JsonObject lazy = LAZY.createReader(new StringReader(JSON)).readObject();
+        assertThat(lazy, instanceOf(LazyJacksonObject.class));
+        assertThat(lazy.getJsonObject("a\"{").getJsonArray("x").getString(2), equalTo("\u00e9]"));
+        assertThat(lazy.getJsonArray("c").getInt(0), equalTo(4));
+        assertThat(lazy.isNull("n"), equalTo(true));
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void reportsSyntaxErrorsUpFront() {
+        LAZY.createReader(new StringReader("{\"a\":{\"b\":[1,}}")).readObject();
+    }
+
+    private void assertLikeEager(JsonObject lazy) {
+        JsonObject eager = PROVIDER.createReader(new StringReader(JSON)).readObject();
+        assertThat(lazy.size(), equalTo(eager.size()));
+        for (String name : eager.keySet()) {
+            assertThat(name, lazy.get(name), equalTo(eager.get(name)));
+        }
+        assertThat(lazy.toString(), equalTo(eager.toString()));
+        assertThat(lazy, equalTo((Object) eager));
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.Collections;
+
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+import com.github.pgelinas.jackson.javax.json.stream.JacksonParserFactory;
+import com.github.pgelinas.jackson.javax.json.stream.JacksonParsingException;
+
+public class LightweightFailureTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String MALFORMED = "{\"a\":[1,}";
+
+    @Test
+    public void readerThrowsLightweightException() {
+        try {
+            PROVIDER.createReaderFactory(Collections.singletonMap(JacksonReaderFactory.LIGHTWEIGHT_FAILURES, true))
+                    .createReader(new StringReader(MALFORMED)).readObject();
+            fail();
+        } catch (JsonParsingException e) {
+            assertLightweight(e);
+        }
+    }
+
+    @Test
+    public void parserThrowsLightweightException() {
+        JsonParser parser = PROVIDER
+                .createParserFactory(Collections.singletonMap(JacksonParserFactory.LIGHTWEIGHT_FAILURES, true))
+                .createParser(new StringReader(MALFORMED));
+        try {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+            fail();
+        } catch (JsonParsingException e) {
+            assertLightweight(e);
+        }
+    }
+
+    @Test
+    public void tryReadReturnsErrors() {
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        JacksonReadResult result = factory.tryRead(new StringReader(MALFORMED));
+        assertThat(result.isSuccess(), equalTo(false));
+        assertLightweight(result.getError());
+
+        result = factory.tryRead(new StringReader("[1]"));
+        assertThat(result.isSuccess(), equalTo(true));
+        assertThat(result.getValue().toString(), equalTo("[1]"));
+    }
+
+    private static void assertLightweight(JsonParsingException e) {
+        assertThat(e, instanceOf(JacksonParsingException.class));
+        assertThat(e.getStackTrace().length, equalTo(0));
+        assertThat(e.getMessage(), notNullValue());
+        assertThat(e.getLocation().getLineNumber(), equalTo(1L));
+        assertThat(e.getLocation().getColumnNumber(), equalTo(9L));
+    }
+}
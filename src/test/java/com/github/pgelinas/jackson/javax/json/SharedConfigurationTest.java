@@ -0,0 +1,72 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
+
+import org.junit.Test;
+
+import com.github.pgelinas.jackson.javax.json.spi.JacksonProvider;
+
+public class SharedConfigurationTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String JSON = "{/* comment */\"a\":1}";
+
+    @Test
+    public void identicalConfigurationsBehaveAlike() {
+        Map<String, Object> config = new HashMap<String, Object>();
+        config.put("ALLOW_COMMENTS", true);
+        config.put("unknown", true);
+        for (int i = 0; i < 2; i++) {
+            JsonObject object = PROVIDER.createReaderFactory(config).createReader(new StringReader(JSON)).readObject();
+            assertThat(object.getInt("a"), equalTo(1));
+        }
+        assertThat(PROVIDER.createReaderFactory(config).getConfigInUse(),
+                equalTo((Object) Collections.singletonMap("ALLOW_COMMENTS", true)));
+        assertThat(PROVIDER.createParserFactory(config).getConfigInUse(),
+                equalTo((Object) Collections.singletonMap("ALLOW_COMMENTS", true)));
+    }
+
+    @Test(expected = JsonException.class)
+    public void otherConfigurationsAreNotAffected() {
+        PROVIDER.createReaderFactory(Collections.singletonMap("ALLOW_COMMENTS", true));
+        PROVIDER.createReaderFactory(Collections.<String, Object> emptyMap()).createReader(new StringReader(JSON))
+                .readObject();
+    }
+
+    @Test
+    public void configuredGeneratorWritesTrees() {
+        JsonObject object = PROVIDER.createReader(new StringReader("{\"a\":[1]}")).readObject();
+        StringWriter writer = new StringWriter();
+        JsonGenerator generator = PROVIDER.createGeneratorFactory(Collections.singletonMap("QUOTE_FIELD_NAMES", false))
+                .createGenerator(writer);
+        generator.writeStartArray().write(object).writeEnd().close();
+        assertThat(writer.toString(), equalTo("[{a:[1]}]"));
+    }
+
+    @Test
+    public void boundsSharedConfigurations() throws Exception {
+        JacksonProvider provider = new JacksonProvider();
+        for (int i = 1; i <= 100; i++) {
+            JsonObject object = provider.createReaderFactory(Collections.singletonMap(
+                    JacksonReaderFactory.CANONICAL_STRINGS, i)).createReader(new StringReader("{\"a\":\"b\"}"))
+                    .readObject();
+            assertThat(object.getString("a"), equalTo("b"));
+        }
+        java.lang.reflect.Field field = JacksonProvider.class.getDeclaredField("_mappers");
+        field.setAccessible(true);
+        assertThat(((Map<?, ?>) field.get(provider)).size(), equalTo(64));
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.pgelinas.jackson.javax.json;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+import org.junit.Test;
+
+public class WrapperCacheTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @Test
+    public void arrayElementsAreWrappedOnce() {
+        JsonArray array = PROVIDER.createReader(new StringReader("[{\"a\":1},\"b\",2]")).readArray();
+        for (int i = 0; i < array.size(); i++) {
+            assertThat(array.get(i), sameInstance(array.get(i)));
+        }
+        assertThat(array.getValuesAs(JsonObject.class).get(0), sameInstance((Object) array.getJsonObject(0)));
+    }
+
+    @Test
+    public void objectFieldsAreWrappedOnce() {
+        JsonObject object = PROVIDER.createReader(new StringReader("{\"a\":{\"b\":[1]},\"c\":\"d\",\"e\":3}")).readObject();
+        assertThat(object.getJsonObject("a"), sameInstance(object.getJsonObject("a")));
+        assertThat(object.getJsonString("c"), sameInstance(object.getJsonString("c")));
+        assertThat(object.getJsonNumber("e"), sameInstance(object.getJsonNumber("e")));
+        assertThat(object.getJsonObject("a").getJsonArray("b"), sameInstance(object.getJsonObject("a").getJsonArray("b")));
+    }
+
+    @Test
+    public void fieldsOfLargeObjectAreWrappedOnce() {
+        JsonObjectBuilder builder = PROVIDER.createObjectBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.add("key" + i, "value" + i);
+        }
+        JsonObject object = builder.build();
+        for (int i = 0; i < 100; i++) {
+            assertThat(object.get("key" + i), sameInstance(object.get("key" + i)));
+        }
+        for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+            assertThat(entry.getValue(), sameInstance(object.get(entry.getKey())));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.util.Collections;
+
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser.Event;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+
+public class JacksonParserTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String JSON = "[{\"a\":1},[2,{\"b\":[]}],\"c\",null,{\"skipped\":[1,2]},4]";
+
+    @Test
+    public void materializesOneElementAtATime() {
+        JacksonParser parser = (JacksonParser) PROVIDER.createParser(new StringReader(JSON));
+        readElements(parser);
+    }
+
+    @Test
+    public void materializesWithConfiguredFactory() {
+        JacksonParser parser = (JacksonParser) PROVIDER.createParserFactory(Collections.<String, Object> emptyMap())
+                .createParser(new StringReader(JSON));
+        readElements(parser);
+    }
+
+    @Test
+    public void readsPrimitivesWithoutStrings() {
+        JacksonParser parser = (JacksonParser) PROVIDER.createParser(new StringReader("{\"name\":[1.5,3000000000,\"text\"]}"));
+        assertThat(parser.next(), equalTo(Event.START_OBJECT));
+        assertThat(parser.next(), equalTo(Event.KEY_NAME));
+        assertThat(parser.getTextCharacters().toString(), equalTo("name"));
+        assertThat(parser.getString() == "name", equalTo(true));
+        assertThat(parser.next(), equalTo(Event.START_ARRAY));
+        assertThat(parser.next(), equalTo(Event.VALUE_NUMBER));
+        assertThat(parser.getNumberType(), equalTo(NumberType.DOUBLE));
+        assertThat(parser.getDouble(), equalTo(1.5d));
+        assertThat(parser.next(), equalTo(Event.VALUE_NUMBER));
+        assertThat(parser.getNumberType(), equalTo(NumberType.LONG));
+        assertThat(parser.getDouble(), equalTo(3e9d));
+        assertThat(parser.next(), equalTo(Event.VALUE_STRING));
+        CharSequence text = parser.getTextCharacters();
+        assertThat(parser.getTextLength(), equalTo(4));
+        assertThat(text.length(), equalTo(4));
+        assertThat(text.charAt(1), equalTo('e'));
+        assertThat(text.subSequence(1, 3).toString(), equalTo("ex"));
+        parser.close();
+    }
+
+    @Test
+    public void matchesFieldNames() {
+        JacksonFieldNames names = JacksonFieldNames.of("timestamp", "value");
+        for (boolean intern : new boolean[] { true, false }) {
+            JacksonParser parser = (JacksonParser) PROVIDER
+                    .createParserFactory(Collections.singletonMap("INTERN_FIELD_NAMES", intern))
+                    .createParser(new StringReader("{\"value\":1,\"other\":2,\"timestamp\":3}"));
+            StringBuilder matches = new StringBuilder();
+            while (parser.hasNext()) {
+                if (parser.next() == Event.KEY_NAME) matches.append(parser.getFieldIndex(names)).append(' ');
+            }
+            assertThat(matches.toString(), equalTo("1 -1 0 "));
+        }
+    }
+
+    @Test
+    public void resolvesEveryNameOfLargeSet() {
+        String[] keys = new String[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + i;
+        }
+        JacksonFieldNames names = JacksonFieldNames.of(keys);
+
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(names.indexOf(new String(keys[i])), equalTo(i));
+        }
+        assertThat(names.indexOf("missing"), equalTo(-1));
+        assertThat(JacksonFieldNames.of().indexOf("missing"), equalTo(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDuplicateFieldNames() {
+        JacksonFieldNames.of("a", "b", new String("a"));
+    }
+
+    @Test
+    public void materializesFromTree() {
+        JacksonParser parser = (JacksonParser) PROVIDER.createParserFactory(null)
+                .createParser(PROVIDER.createReader(new StringReader(JSON)).readArray());
+        readElements(parser);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsEndEvents() {
+        JacksonParser parser = (JacksonParser) PROVIDER.createParser(new StringReader("[]"));
+        parser.next();
+        parser.next();
+        parser.getValue();
+    }
+
+    private void readElements(JacksonParser parser) {
+        assertThat(parser.next(), equalTo(Event.START_ARRAY));
+        assertThat(parser.next(), equalTo(Event.START_OBJECT));
+        assertThat(parser.getObject().getInt("a"), equalTo(1));
+        assertThat(parser.next(), equalTo(Event.START_ARRAY));
+        assertThat(parser.getArray().toString(), equalTo("[2,{\"b\":[]}]"));
+        assertThat(parser.next(), equalTo(Event.VALUE_STRING));
+        assertThat(parser.getValue().toString(), equalTo("\"c\""));
+        assertThat(parser.next(), equalTo(Event.VALUE_NULL));
+        assertThat(parser.getValue(), equalTo(JsonValue.NULL));
+        assertThat(parser.next(), equalTo(Event.START_OBJECT));
+        parser.skipValue();
+        assertThat(parser.next(), equalTo(Event.VALUE_NUMBER));
+        assertThat(parser.getInt(), equalTo(4));
+        assertThat(parser.next(), equalTo(Event.END_ARRAY));
+        assertThat(parser.hasNext(), equalTo(false));
+        parser.close();
+    }
+}
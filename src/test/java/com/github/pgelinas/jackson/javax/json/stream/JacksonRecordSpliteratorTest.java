@@ -0,0 +1,58 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+import org.junit.Test;
+
+import com.github.pgelinas.jackson.javax.json.JacksonReaderFactory;
+
+public class JacksonRecordSpliteratorTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final int RECORDS = 20000;
+
+    private static byte[] records() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            builder.append("{\"id\":").append(i).append(",\"name\":\"record\\n").append(i).append("\"}\n");
+        }
+        return builder.toString().getBytes("UTF-8");
+    }
+
+    @Test
+    public void readsRecordsInParallelAndInOrder() throws Exception {
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        byte[] records = records();
+        List<JsonValue> values = factory.readRecords(records, 0, records.length).collect(Collectors.toList());
+        assertThat(values.size(), equalTo(RECORDS));
+        for (int i = 0; i < RECORDS; i++) {
+            assertThat(((JsonObject) values.get(i)).getInt("id"), equalTo(i));
+        }
+    }
+
+    @Test
+    public void splitsAtRecordBoundaries() throws Exception {
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        ByteBuffer direct = ByteBuffer.allocateDirect(records().length);
+        direct.put(records()).flip();
+        Spliterator<JsonValue> second = factory.createRecordSpliterator(direct);
+        Spliterator<JsonValue> first = second.trySplit();
+        assertThat(first, notNullValue());
+        long[] count = new long[1];
+        first.forEachRemaining(value -> count[0]++);
+        second.forEachRemaining(value -> count[0]++);
+        assertThat(count[0], equalTo((long) RECORDS));
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+import com.github.pgelinas.jackson.javax.json.JacksonReaderFactory;
+
+public class JacksonValueIteratorTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @Test
+    public void iteratesOverArrayElements() {
+        JacksonParserFactory factory = (JacksonParserFactory) PROVIDER.createParserFactory(null);
+        JacksonValueIterator iterator = factory.createElementIterator(new StringReader("[{\"a\":1}, [2], \"3\", null, 4] trailing"));
+        List<String> values = new ArrayList<String>();
+        while (iterator.hasNext()) {
+            values.add(iterator.next().toString());
+        }
+        iterator.close();
+        assertThat(values, equalTo(Arrays.asList("{\"a\":1}", "[2]", "\"3\"", "null", "4")));
+    }
+
+    @Test
+    public void streamsRootValues() throws Exception {
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        Stream<JsonValue> stream = factory.readValues(new ByteArrayInputStream("{\"a\":1}\n{\"a\":2}\n\n[3]\n".getBytes("UTF-8")));
+        List<String> values = stream.map(JsonValue::toString).collect(Collectors.toList());
+        stream.close();
+        assertThat(values, equalTo(Arrays.asList("{\"a\":1}", "{\"a\":2}", "[3]")));
+    }
+
+    @Test
+    public void streamsArrayElements() {
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        try (Stream<JsonValue> stream = factory.readElements(new StringReader("[1,2,3,4]"))) {
+            assertThat(stream.limit(2).count(), equalTo(2L));
+        }
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void elementsRequireArray() {
+        JacksonReaderFactory factory = (JacksonReaderFactory) PROVIDER.createReaderFactory(null);
+        factory.readElements(new StringReader("{}")).count();
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.pgelinas.jackson.javax.json.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.json.JsonReader;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.junit.Test;
+
+import com.github.pgelinas.jackson.javax.json.JacksonReaderFactory;
+
+public class MappedFileInputTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @Test
+    public void readsAndParsesMappedFile() throws Exception {
+        Path path = Files.createTempFile("mapped", ".json");
+        try {
+            Files.write(path, "{\"a\":[1,\"b\"]}".getBytes(StandardCharsets.UTF_8));
+            JsonReader reader = ((JacksonReaderFactory) PROVIDER.createReaderFactory(null)).createReader(path);
+            assertThat(reader.readObject().toString(), equalTo("{\"a\":[1,\"b\"]}"));
+            reader.close();
+
+            JsonParser parser = ((JacksonParserFactory) PROVIDER.createParserFactory(null)).createParser(path);
+            assertThat(parser.next(), equalTo(Event.START_OBJECT));
+            assertThat(parser.next(), equalTo(Event.KEY_NAME));
+            assertThat(parser.getString(), equalTo("a"));
+            parser.close();
+        } finally {
+            Files.delete(path);
+        }
+    }
+}